@@ -9,12 +9,24 @@
 package org.openhab.binding.ebus.action;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ebus.internal.handler.EBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusRequestService;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
 import org.openhab.binding.ebus.internal.utils.EBusClientBridge;
 import org.openhab.core.automation.annotation.ActionInput;
 import org.openhab.core.automation.annotation.RuleAction;
@@ -30,7 +42,6 @@ import de.csdev.ebus.command.EBusCommandUtils;
 import de.csdev.ebus.command.IEBusCommandMethod;
 import de.csdev.ebus.command.IEBusCommandMethod.Method;
 import de.csdev.ebus.command.datatypes.EBusTypeException;
-import de.csdev.ebus.core.EBusControllerException;
 import de.csdev.ebus.core.EBusDataException;
 import de.csdev.ebus.utils.EBusUtils;
 
@@ -42,6 +53,9 @@ import de.csdev.ebus.utils.EBusUtils;
 @NonNullByDefault
 public class EBusActions implements ThingActions {
 
+    /** extra wait in seconds of a blocking read for the timeout of the request itself */
+    private static final long READ_TIMEOUT_MARGIN = 2;
+
     @NonNullByDefault({})
     private final Logger logger = LoggerFactory.getLogger(EBusActions.class);
 
@@ -74,6 +88,21 @@ public class EBusActions implements ThingActions {
         return null;
     }
 
+    /**
+     * Adds a telegram to the send path of the bridge with the rule action priority
+     *
+     * @param telegram
+     */
+    private void send(byte[] telegram) {
+        EBusBridgeHandler tmpHandler = this.handler;
+        if (tmpHandler != null) {
+            if (!tmpHandler.getSendService().send(SendClass.RULE_ACTION, telegram)) {
+                logger.warn("Unable to send the eBUS telegram {} of a rule action, the send queue is full",
+                        EBusUtils.toHexDumpString(telegram));
+            }
+        }
+    }
+
     /**
      * Static variant for classic rule files (DSL).
      * Sends a complete RAW HEX string telegram
@@ -128,14 +157,53 @@ public class EBusActions implements ThingActions {
             byte[] data = EBusUtils.toByteArray(rawTelegram);
 
             if (data.length > 0) {
-                client.addToSendQueue(EBusCommandUtils.prepareSendTelegram(data));
+                send(EBusCommandUtils.prepareSendTelegram(data));
             }
 
-        } catch (EBusDataException | EBusControllerException e) {
+        } catch (EBusDataException e) {
             logger.error("error!", e);
         }
     }
 
+    /**
+     * Static variant for classic rule files (DSL).
+     * Sends a getter command and waits for the decoded response
+     *
+     * @param actions The EBusActions object
+     * @param collectionId The collection id
+     * @param commandId The command id
+     * @param destinationAddress The destination as HEX byte
+     * @param values Additional values as Map
+     * @param timeout Timeout in seconds
+     * @return The decoded values of the response
+     */
+    public static Map<String, @Nullable Object> readCommand(@Nullable ThingActions actions,
+            @Nullable String collectionId, @Nullable String commandId, @Nullable String destinationAddress,
+            @Nullable Map<@Nullable String, @Nullable Object> values, @Nullable Number timeout) {
+        if (actions instanceof EBusActions) {
+            return ((EBusActions) actions).readCommand(collectionId, commandId, destinationAddress, values, timeout);
+        } else {
+            throw new IllegalArgumentException("Instance is not an EBusActions class.");
+        }
+    }
+
+    /**
+     * Static variant for classic rule files (DSL).
+     * Sends a batch of commands back-to-back
+     *
+     * @param actions The EBusActions object
+     * @param commands List of maps with the keys collectionId, commandId, destinationAddress and values
+     * @return Per command <code>true</code> if it was queued, not if it was sent
+     */
+    public static List<Boolean> sendCommands(@Nullable ThingActions actions,
+            @Nullable List<@Nullable Map<String, @Nullable Object>> commands) {
+        if (actions instanceof EBusActions) {
+            return ((EBusActions) actions).sendCommands(commands);
+        } else {
+            throw new IllegalArgumentException("Instance is not an EBusActions class.");
+        }
+    }
+
     /**
      * Sends a command from the registry with values from the map or default/replace values
      *
@@ -150,6 +218,172 @@ public class EBusActions implements ThingActions {
             @ActionInput(name = "destinationAddress", label = "Destination address (HEX)") @Nullable String destinationAddress,
             @ActionInput(name = "values", label = "Values as Map") @Nullable Map<@Nullable String, @Nullable Object> values) {
 
+        EBusClient client = getEBusClient();
+
+        if (client == null) {
+            return;
+        }
+
+        try {
+            send(buildTelegram(client, collectionId, commandId, destinationAddress, values, Method.SET,
+                    Method.BROADCAST));
+
+        } catch (EBusTypeException | EBusCommandException e) {
+            logger.error("error!", e);
+        }
+    }
+
+    /**
+     * Sends a batch of commands from the registry. All telegrams are built before the first one is sent, so an invalid
+     * command fails the whole batch. The telegrams are queued together and sent back-to-back, if the send queue has not
+     * enough space for all of them, none is queued.
+     *
+     * @param commands List of maps with the keys collectionId, commandId, destinationAddress and values
+     * @return Per command <code>true</code> if it was queued, not if it was sent
+     * @throws IllegalArgumentException if a command is invalid, nothing is sent in this case
+     */
+    @RuleAction(label = "Send eBUS commands", description = "Queues a batch of eBUS commands to send them back-to-back and returns per command if it was queued, not if it was sent")
+    public List<Boolean> sendCommands(
+            @ActionInput(name = "commands", label = "Commands", description = "List of maps with the keys collectionId, commandId, destinationAddress and values") @Nullable List<@Nullable Map<String, @Nullable Object>> commands) {
+
+        EBusBridgeHandler tmpHandler = this.handler;
+        if (tmpHandler == null || commands == null || commands.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        EBusClient client = tmpHandler.getLibClient().getClient();
+        List<byte[]> telegrams = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            Map<String, @Nullable Object> command = commands.get(i);
+            if (command == null) {
+                throw new IllegalArgumentException(String.format("Command %d of the batch is empty!", i));
+            }
+
+            Object values = command.get("values");
+            if (values != null && !(values instanceof Map)) {
+                throw new IllegalArgumentException(String.format("Values of command %d must be a map!", i));
+            }
+
+            try {
+                @SuppressWarnings("unchecked")
+                Map<@Nullable String, @Nullable Object> valueMap = (Map<@Nullable String, @Nullable Object>) values;
+
+                telegrams.add(buildTelegram(client, toString(command.get("collectionId")),
+                        toString(command.get("commandId")), toString(command.get("destinationAddress")), valueMap,
+                        Method.SET, Method.BROADCAST));
+
+            } catch (IllegalArgumentException | EBusTypeException | EBusCommandException e) {
+                throw new IllegalArgumentException(
+                        String.format("Command %d of the batch is invalid: %s", i, e.getMessage()), e);
+            }
+        }
+
+        return tmpHandler.getSendService().sendAll(SendClass.RULE_ACTION, telegrams);
+    }
+
+    /**
+     * Sends a getter command from the registry and waits for the decoded response
+     *
+     * @param collectionId The collection id
+     * @param commandId The command id
+     * @param destinationAddress The destination as HEX byte
+     * @param values Additional values as Map
+     * @param timeout Timeout in seconds, default is 10 seconds
+     * @return The decoded values of the response
+     * @throws IllegalStateException on a timeout or if the response can't be decoded
+     */
+    @RuleAction(label = "Read an eBUS command", description = "Sends an eBUS getter command and returns the received values")
+    public Map<String, @Nullable Object> readCommand(
+            @ActionInput(name = "collectionId", label = "Collection ID") @Nullable String collectionId,
+            @ActionInput(name = "commandId", label = "Command ID") @Nullable String commandId,
+            @ActionInput(name = "destinationAddress", label = "Destination address (HEX)") @Nullable String destinationAddress,
+            @ActionInput(name = "values", label = "Values as Map") @Nullable Map<@Nullable String, @Nullable Object> values,
+            @ActionInput(name = "timeout", label = "Timeout in seconds") @Nullable Number timeout) {
+
+        try {
+            return readCommandAsync(collectionId, commandId, destinationAddress, values, timeout)
+                    .get(toSeconds(timeout) + READ_TIMEOUT_MARGIN, TimeUnit.SECONDS);
+
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(String.format("No response for command %s.%s from %s in time",
+                    collectionId, commandId, destinationAddress), e);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new IllegalStateException(String.format("No response for command %s.%s from %s in time",
+                        collectionId, commandId, destinationAddress), cause);
+            }
+            throw new IllegalStateException(String.format("Unable to read command %s.%s from %s: %s", collectionId,
+                    commandId, destinationAddress, cause != null ? cause.getMessage() : e.getMessage()), cause);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the eBUS response", e);
+        }
+    }
+
+    /**
+     * Sends a getter command from the registry without blocking the rule thread
+     *
+     * @param collectionId The collection id
+     * @param commandId The command id
+     * @param destinationAddress The destination as HEX byte
+     * @param values Additional values as Map
+     * @param timeout Timeout in seconds, default is 10 seconds
+     * @return A future of the decoded values of the response, fails on a timeout or if the response can't be decoded
+     */
+    public CompletableFuture<Map<String, @Nullable Object>> readCommandAsync(@Nullable String collectionId,
+            @Nullable String commandId, @Nullable String destinationAddress,
+            @Nullable Map<@Nullable String, @Nullable Object> values, @Nullable Number timeout) {
+
+        EBusBridgeHandler tmpHandler = this.handler;
+        if (tmpHandler == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("eBUS bridge is not available!"));
+        }
+
+        try {
+            byte[] telegram = buildTelegram(tmpHandler.getLibClient().getClient(), collectionId, commandId,
+                    destinationAddress, values, Method.GET);
+
+            return tmpHandler.getRequestService()
+                    .request(SendClass.RULE_ACTION, telegram, toSeconds(timeout), TimeUnit.SECONDS)
+                    .thenApply(ResolvedTelegram::getResult);
+
+        } catch (EBusTypeException | EBusCommandException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static @Nullable String toString(@Nullable Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * @return the timeout in seconds or the default timeout
+     */
+    private static long toSeconds(@Nullable Number timeout) {
+        return timeout != null && timeout.longValue() > 0 ? timeout.longValue() : EBusRequestService.DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Builds the telegram of a command from the registry
+     *
+     * @param client
+     * @param collectionId
+     * @param commandId
+     * @param destinationAddress
+     * @param values
+     * @param methods command methods to look up, the first found is used
+     * @return
+     * @throws EBusTypeException
+     * @throws EBusCommandException
+     */
+    private byte[] buildTelegram(EBusClient client, @Nullable String collectionId, @Nullable String commandId,
+            @Nullable String destinationAddress, @Nullable Map<@Nullable String, @Nullable Object> values,
+            Method... methods) throws EBusTypeException, EBusCommandException {
+
         if (collectionId == null || StringUtils.isEmpty(collectionId)) {
             throw new IllegalArgumentException("Parameter 'collectionId' is required!");
         }
@@ -162,23 +396,18 @@ public class EBusActions implements ThingActions {
             throw new IllegalArgumentException("Parameter 'destinationAddress' is required!");
         }
 
-        EBusClient client = getEBusClient();
-
-        if (client == null) {
-            return;
-        }
-
-        IEBusCommandMethod method = client.getConfigurationProvider().getCommandMethodById(collectionId, commandId,
-                Method.SET);
-
-        // second try with a broadcast
-        if (method == null) {
-            client.getConfigurationProvider().getCommandMethodById(collectionId, commandId, Method.BROADCAST);
+        IEBusCommandMethod method = null;
+        for (Method type : methods) {
+            method = client.getConfigurationProvider().getCommandMethodById(collectionId, commandId, type);
+            if (method != null) {
+                break;
+            }
         }
 
         if (method == null) {
-            throw new IllegalArgumentException(
-                    String.format("Unable to find a SET or BROADCAST command with id %s.%s", collectionId, commandId));
+            throw new IllegalArgumentException(String.format("Unable to find a %s command with id %s.%s",
+                    Arrays.stream(methods).map(Method::name).collect(Collectors.joining(" or ")), collectionId,
+                    commandId));
         }
 
         Byte destionationAddressByte = EBusUtils.toByte(destinationAddress);
@@ -186,12 +415,7 @@ public class EBusActions implements ThingActions {
             throw new IllegalArgumentException("Invalid destination address!");
         }
 
-        try {
-            ByteBuffer buffer = client.buildTelegram(method, destionationAddressByte, values);
-            client.addToSendQueue(EBusUtils.toByteArray(buffer));
-
-        } catch (EBusTypeException | EBusControllerException | EBusCommandException e) {
-            logger.error("error!", e);
-        }
+        ByteBuffer buffer = client.buildTelegram(method, destionationAddressByte, values);
+        return EBusUtils.toByteArray(buffer);
     }
 }
@@ -36,6 +36,7 @@ public class EBusBindingConstants {
     public static final String MASTER_ADDRESS = "masterAddress";
     public static final String SLAVE_ADDRESS = "slaveAddress";
     public static final String POLLING = "polling";
+    public static final String POLLING_MAX = "pollingMax";
 
     // properties for ebus connection
     public static final String SERIAL_PORT = "serialPort";
@@ -53,6 +54,20 @@ public class EBusBindingConstants {
     public static final String DRIVER_NRJAVASERIAL = "nrjavaserial";
     public static final String DRIVER_JSERIALCOMM = "jserialcomm";
 
+    public static final String DISPATCH_QUEUE_SIZE = "dispatchQueueSize";
+    public static final String DISPATCH_OVERFLOW_POLICY = "dispatchOverflowPolicy";
+    public static final String DISPATCH_POLICY_DROP_OLDEST = "dropOldest";
+    public static final String DISPATCH_POLICY_COALESCE = "coalesce";
+    public static final String POLLING_MAX_BUS_UTILIZATION = "pollingMaxBusUtilization";
+    public static final String POLLING_FRESHNESS = "pollingFreshness";
+    public static final String PRIORITY_INTERACTIVE = "priorityInteractive";
+    public static final String PRIORITY_RULE_ACTION = "priorityRuleAction";
+    public static final String PRIORITY_POLL = "priorityPoll";
+    public static final String PRIORITY_DISCOVERY = "priorityDiscovery";
+    public static final String CIRCUIT_BREAKER_THRESHOLD = "circuitBreakerThreshold";
+    public static final String CIRCUIT_BREAKER_BACKOFF = "circuitBreakerBackoff";
+    public static final String REFRESH_CACHE_TTL = "refreshCacheTtl";
+
     public static final String CONFIGURATION_URL = "configurationUrl";
     public static final String CONFIGURATION_URL1 = "configurationUrl1";
     public static final String CONFIGURATION_URL2 = "configurationUrl2";
@@ -66,9 +81,14 @@ public class EBusBindingConstants {
     public static final String FILTER_ACCEPT_MASTER = "filterAcceptMaster";
     public static final String FILTER_ACCEPT_SLAVE = "filterAcceptSlave";
     public static final String FILTER_ACCEPT_BROADCAST = "filterAcceptBroadcasts";
+    public static final String FILTER_UNCHANGED_STATES = "filterUnchangedStates";
+    public static final String STATE_DEADBAND = "stateDeadband";
+    public static final String STATE_HEARTBEAT = "stateHeartbeat";
+    public static final String WRITE_COALESCING_WINDOW = "writeCoalescingWindow";
 
     // channel group id
     public static final String METRICS = "metrics";
+    public static final String DEVICE_METRICS = "deviceMetrics";
 
     // channel ids
     public static final String RECEIVED_TELEGRAMS = "receivedTelegrams";
@@ -78,6 +98,39 @@ public class EBusBindingConstants {
     public static final String FAILED_RATIO = "failedRatio";
     public static final String UNRESOLVED_RATIO = "unresolvedRatio";
     public static final String SEND_RECEIVE_ROUNDTRIP_TIME = "sendReceiveRoundtripTime";
+    public static final String DROPPED_TELEGRAMS = "droppedTelegrams";
+    public static final String COALESCED_TELEGRAMS = "coalescedTelegrams";
+    public static final String POLLS_DUE = "pollsDue";
+    public static final String POLLS_DEFERRED = "pollsDeferred";
+    public static final String QUEUE_WAIT_INTERACTIVE = "queueWaitInteractive";
+    public static final String QUEUE_WAIT_RULE_ACTION = "queueWaitRuleAction";
+    public static final String QUEUE_WAIT_POLL = "queueWaitPoll";
+    public static final String QUEUE_WAIT_DISCOVERY = "queueWaitDiscovery";
+    public static final String COALESCED_WRITES = "coalescedWrites";
+    public static final String SEND_QUEUE_DEPTH = "sendQueueDepth";
+    public static final String QUEUE_WAIT_AVERAGE = "queueWaitAverage";
+    public static final String QUEUE_WAIT_P95 = "queueWaitP95";
+    public static final String SENDS_PER_MINUTE = "sendsPerMinute";
+    public static final String OWN_BUS_SHARE = "ownBusShare";
+    public static final String LATENCY_P50 = "latencyP50";
+    public static final String LATENCY_P95 = "latencyP95";
+    public static final String LATENCY_P99 = "latencyP99";
+    public static final String LATENCY_MAX = "latencyMax";
+    public static final String BUS_BYTES_PER_SECOND = "busBytesPerSecond";
+    public static final String BUS_UTILIZATION = "busUtilization";
+    public static final String BROADCASTS_PER_MINUTE = "broadcastsPerMinute";
+    public static final String MASTER_MASTER_PER_MINUTE = "masterMasterPerMinute";
+    public static final String MASTER_SLAVE_PER_MINUTE = "masterSlavePerMinute";
+    public static final String OWN_SEND_ERRORS = "ownSendErrors";
+
+    // device metrics channel ids
+
+    public static final String ACCEPTED_TELEGRAMS = "acceptedTelegrams";
+    public static final String UPDATED_VALUES = "updatedValues";
+    public static final String POLLS_SENT = "pollsSent";
+    public static final String POLLS_ANSWERED = "pollsAnswered";
+    public static final String RESOLVE_FAILURES = "resolveFailures";
+    public static final String POLL_TIMEOUTS = "pollTimeouts";
 
     // configuration uris
 
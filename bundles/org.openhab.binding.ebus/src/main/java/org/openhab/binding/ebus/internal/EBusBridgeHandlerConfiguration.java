@@ -51,6 +51,28 @@ public class EBusBridgeHandlerConfiguration {
 
     public @Nullable String configurationBundleUrl;
 
+    public @Nullable BigDecimal dispatchQueueSize;
+
+    public @Nullable String dispatchOverflowPolicy = DISPATCH_POLICY_COALESCE;
+
+    public @Nullable BigDecimal pollingMaxBusUtilization;
+
+    public @Nullable BigDecimal pollingFreshness;
+
+    public @Nullable BigDecimal priorityInteractive;
+
+    public @Nullable BigDecimal priorityRuleAction;
+
+    public @Nullable BigDecimal priorityPoll;
+
+    public @Nullable BigDecimal priorityDiscovery;
+
+    public @Nullable BigDecimal circuitBreakerThreshold;
+
+    public @Nullable BigDecimal circuitBreakerBackoff;
+
+    public @Nullable BigDecimal refreshCacheTtl;
+
     @Override
     public String toString() {
         return "EBusBridgeHandlerConfiguration [masterAddress=" + masterAddress + ", slaveAddress=" + slaveAddress
@@ -58,6 +80,11 @@ public class EBusBridgeHandlerConfiguration {
                 + ", ebusd=" + ebusd + ", networkDriver=" + networkDriver + ", serialPortDriver=" + serialPortDriver
                 + ", advancedLogging=" + advancedLogging + ", configurationUrl=" + configurationUrl
                 + ", configurationUrl1=" + configurationUrl1 + ", configurationUrl2=" + configurationUrl2
-                + ", configurationBundleUrl=" + configurationBundleUrl + "]";
+                + ", configurationBundleUrl=" + configurationBundleUrl + ", dispatchQueueSize=" + dispatchQueueSize
+                + ", dispatchOverflowPolicy=" + dispatchOverflowPolicy + ", pollingMaxBusUtilization="
+                + pollingMaxBusUtilization + ", pollingFreshness=" + pollingFreshness + ", priorityInteractive="
+                + priorityInteractive + ", priorityRuleAction=" + priorityRuleAction + ", priorityPoll=" + priorityPoll
+                + ", priorityDiscovery=" + priorityDiscovery + ", circuitBreakerThreshold=" + circuitBreakerThreshold
+                + ", circuitBreakerBackoff=" + circuitBreakerBackoff + ", refreshCacheTtl=" + refreshCacheTtl + "]";
     }
 }
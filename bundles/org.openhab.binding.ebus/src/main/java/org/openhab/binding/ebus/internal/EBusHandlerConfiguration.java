@@ -52,10 +52,37 @@ public class EBusHandlerConfiguration {
      */
     public @Nullable BigDecimal polling;
 
+    /**
+     * Maximum interval for adaptive polling
+     */
+    public @Nullable BigDecimal pollingMax;
+
+    /**
+     * Skip state updates if the value has not changed
+     */
+    public @Nullable Boolean filterUnchangedStates = false;
+
+    /**
+     * Numeric values within this deadband are handled as unchanged
+     */
+    public @Nullable BigDecimal stateDeadband;
+
+    /**
+     * Publish unchanged states anyway after n seconds
+     */
+    public @Nullable BigDecimal stateHeartbeat;
+
+    /**
+     * Hold writes of a channel for n milliseconds and send only the newest one
+     */
+    public @Nullable BigDecimal writeCoalescingWindow;
+
     @Override
     public String toString() {
         return "EBusHandlerConfiguration [slaveAddress=" + slaveAddress + ", masterAddress=" + masterAddress
                 + ", filterAcceptMaster=" + filterAcceptMaster + ", filterAcceptSlave=" + filterAcceptSlave
-                + ", filterAcceptBroadcasts=" + filterAcceptBroadcasts + ", polling=" + polling + "]";
+                + ", filterAcceptBroadcasts=" + filterAcceptBroadcasts + ", polling=" + polling
+                + ", pollingMax=" + pollingMax + ", filterUnchangedStates=" + filterUnchangedStates + ", stateDeadband=" + stateDeadband
+                + ", stateHeartbeat=" + stateHeartbeat + ", writeCoalescingWindow=" + writeCoalescingWindow + "]";
     }
 }
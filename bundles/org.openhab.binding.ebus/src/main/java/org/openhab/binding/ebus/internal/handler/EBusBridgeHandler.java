@@ -25,8 +25,23 @@ import org.openhab.binding.ebus.action.EBusActions;
 import org.openhab.binding.ebus.internal.EBusBindingConstants;
 import org.openhab.binding.ebus.internal.EBusBridgeHandlerConfiguration;
 import org.openhab.binding.ebus.internal.EBusHandlerFactory;
+import org.openhab.binding.ebus.internal.jfr.EBusFlightRecorder;
 import org.openhab.binding.ebus.internal.serial.EBusSerialBuildInSerialConnection;
+import org.openhab.binding.ebus.internal.services.EBusBusStatistics;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.OverflowPolicy;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming.Stage;
+import org.openhab.binding.ebus.internal.services.EBusLatencyService;
 import org.openhab.binding.ebus.internal.services.EBusMetricsService;
+import org.openhab.binding.ebus.internal.services.EBusPollingScheduler;
+import org.openhab.binding.ebus.internal.services.EBusRefreshService;
+import org.openhab.binding.ebus.internal.services.EBusRequestService;
+import org.openhab.binding.ebus.internal.services.EBusSendService;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
+import org.openhab.binding.ebus.internal.services.EBusSlaveCircuitBreaker;
+import org.openhab.binding.ebus.internal.services.EBusWriteCoalescer;
 import org.openhab.binding.ebus.internal.things.IEBusTypeProvider;
 import org.openhab.binding.ebus.internal.utils.EBusAdvancedLogging;
 import org.openhab.binding.ebus.internal.utils.EBusClientBridge;
@@ -36,6 +51,8 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
 import org.slf4j.Logger;
@@ -60,7 +77,7 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
         implements IEBusParserListener, IEBusConnectorEventListener {
 
     private final Logger logger = LoggerFactory.getLogger(EBusBridgeHandler.class);
-    
+
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Collections
             .singleton(EBusBindingConstants.THING_TYPE_EBUS_BRIDGE);
 
@@ -72,6 +89,29 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
 
     private EBusMetricsService metricsService = new EBusMetricsService(this);
 
+    private final EBusTelegramRouter telegramRouter = new EBusTelegramRouter(this);
+
+    private final EBusDispatchService dispatchService = new EBusDispatchService(this,
+            this::dispatchResolvedTelegram);
+
+    private final EBusPollingScheduler pollingScheduler = new EBusPollingScheduler(this);
+
+    private final EBusSendService sendService = new EBusSendService(this);
+
+    private final EBusSlaveCircuitBreaker circuitBreaker = new EBusSlaveCircuitBreaker(this::onCircuitChanged);
+
+    private final EBusRefreshService refreshService = new EBusRefreshService(this);
+
+    private final EBusWriteCoalescer writeCoalescer = new EBusWriteCoalescer(this);
+
+    private final EBusRequestService requestService = new EBusRequestService(this);
+
+    private final EBusLatencyService latencyService = new EBusLatencyService();
+
+    private final EBusBusStatistics busStatistics = new EBusBusStatistics();
+
+    private final EBusDispatchTiming dispatchTiming = new EBusDispatchTiming();
+
     @Override
     public Collection<Class<? extends ThingHandlerService>> getServices() {
         return Collections.singleton(EBusActions.class);
@@ -104,6 +144,99 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
         return clientBridge;
     }
 
+    @Override
+    public EBusDispatchService getDispatchService() {
+        return dispatchService;
+    }
+
+    @Override
+    public EBusDispatchTiming getDispatchTiming() {
+        return dispatchTiming;
+    }
+
+    @Override
+    public EBusPollingScheduler getPollingScheduler() {
+        return pollingScheduler;
+    }
+
+    @Override
+    public EBusSendService getSendService() {
+        return sendService;
+    }
+
+    @Override
+    public EBusSlaveCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public EBusRefreshService getRefreshService() {
+        return refreshService;
+    }
+
+    @Override
+    public EBusWriteCoalescer getWriteCoalescer() {
+        return writeCoalescer;
+    }
+
+    @Override
+    public EBusRequestService getRequestService() {
+        return requestService;
+    }
+
+    @Override
+    public EBusLatencyService getLatencyService() {
+        return latencyService;
+    }
+
+    @Override
+    public EBusBusStatistics getBusStatistics() {
+        return busStatistics;
+    }
+
+    @Override
+    public @Nullable EBusDeviceCounters getDeviceCounters(ThingUID thingUID) {
+        for (Thing thing : getThing().getThings()) {
+            if (thing.getUID().equals(thingUID) && thing.getHandler() instanceof EBusHandler) {
+                return ((EBusHandler) thing.getHandler()).getCounters();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Informs all Things about a changed circuit of a slave
+     *
+     * @param slaveAddress
+     * @param open
+     * @param retrySeconds
+     */
+    private void onCircuitChanged(byte slaveAddress, boolean open, long retrySeconds) {
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof EBusHandler) {
+                ((EBusHandler) handler).onSlaveCircuitChanged(slaveAddress, open, retrySeconds);
+            }
+        }
+    }
+
+    /**
+     * Drops all telegram routes, must be called if a child Thing has been added, removed or reconfigured
+     */
+    public void invalidateTelegramRoutes() {
+        telegramRouter.invalidate();
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        telegramRouter.invalidate();
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        telegramRouter.invalidate();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -172,7 +305,7 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
                     || serialPortDriver.equals(EBusBindingConstants.DRIVER_BUILDIN)) {
 
                 // use openhab build in serial driver
-                
+
                 EBusSerialBuildInSerialConnection connection = new EBusSerialBuildInSerialConnection(
                         handlerFactory.getSerialPortManager(), serialPort);
 
@@ -217,6 +350,47 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
         clientBridge.getClient().addEBusEventListener(this);
         clientBridge.getClient().addEBusParserListener(this);
 
+        // start the dispatcher for resolved telegrams
+        BigDecimal dispatchQueueSize = configuration.dispatchQueueSize;
+        dispatchService.configure(dispatchQueueSize != null ? dispatchQueueSize.intValue() : 0,
+                OverflowPolicy.fromConfiguration(configuration.dispatchOverflowPolicy));
+        dispatchService.activate();
+
+        // track the health of all slaves
+        BigDecimal circuitBreakerThreshold = configuration.circuitBreakerThreshold;
+        BigDecimal circuitBreakerBackoff = configuration.circuitBreakerBackoff;
+        circuitBreaker.configure(
+                circuitBreakerThreshold != null ? circuitBreakerThreshold.intValue()
+                        : EBusSlaveCircuitBreaker.DEFAULT_THRESHOLD,
+                circuitBreakerBackoff != null ? circuitBreakerBackoff.intValue() : 0);
+        circuitBreaker.reset();
+
+        // start the prioritized send path
+        sendService.setSentListener((sendQueueId, telegram) -> {
+            circuitBreaker.onSent(sendQueueId, telegram);
+            latencyService.onSent(sendQueueId, telegram);
+        });
+        sendService.configure(SendClass.INTERACTIVE, configuration.priorityInteractive);
+        sendService.configure(SendClass.RULE_ACTION, configuration.priorityRuleAction);
+        sendService.configure(SendClass.POLL, configuration.priorityPoll);
+        sendService.configure(SendClass.DISCOVERY, configuration.priorityDiscovery);
+        sendService.activate();
+
+        // correlate responses of requests
+        requestService.activate();
+
+        // cache responses for on-demand refreshes
+        BigDecimal refreshCacheTtl = configuration.refreshCacheTtl;
+        refreshService.configure(
+                refreshCacheTtl != null ? refreshCacheTtl.intValue() : EBusRefreshService.DEFAULT_CACHE_TTL);
+
+        // start the polling scheduler, the jobs are registered by the Things
+        BigDecimal pollingMaxBusUtilization = configuration.pollingMaxBusUtilization;
+        BigDecimal pollingFreshness = configuration.pollingFreshness;
+        pollingScheduler.configure(pollingMaxBusUtilization != null ? pollingMaxBusUtilization.intValue() : 0,
+                pollingFreshness != null ? pollingFreshness.intValue() : EBusPollingScheduler.DEFAULT_FRESHNESS);
+        pollingScheduler.activate();
+
         // start metric scheduler
         metricsService = new EBusMetricsService(this);
         metricsService.activate();
@@ -232,6 +406,18 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
 
         metricsService.deactivate();
 
+        pollingScheduler.deactivate();
+
+        writeCoalescer.deactivate();
+
+        requestService.deactivate();
+
+        refreshService.deactivate();
+
+        sendService.deactivate();
+
+        dispatchService.deactivate();
+
         EBusAdvancedLogging aLogger = this.advanceLogger;
         if (aLogger != null) {
 
@@ -264,37 +450,73 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     public void onTelegramResolved(@Nullable IEBusCommandMethod commandChannel, Map<String, @Nullable Object> result,
             byte @Nullable [] receivedData, @Nullable Integer sendQueueId) {
 
-        boolean noHandler = true;
-
         if (commandChannel == null || receivedData == null) {
             return;
         }
 
-        String source = EBusUtils.toHexDumpString(receivedData[0]);
-        String destination = EBusUtils.toHexDumpString(receivedData[1]);
-
-        logger.debug("Received telegram from address {} to {} with command {}", source, destination,
-                commandChannel.getParent().getId());
-
         if (!this.isInitialized()) {
             logger.warn("eBUS bridge is not initialized! Unable to process resolved telegram!");
             return;
         }
 
-        // loop over all child nodes
-        for (Thing thing : getThing().getThings()) {
+        EBusFlightRecorder.telegramResolved(commandChannel.getParent().getId(), receivedData, sendQueueId);
 
-            EBusHandler handler = (EBusHandler) thing.getHandler();
+        circuitBreaker.onSuccess(sendQueueId);
 
-            // check if this handler can process this telegram
-            if (handler != null && handler.supportsTelegram(receivedData, commandChannel)) {
-                // process
-                handler.handleReceivedTelegram(commandChannel, result, receivedData, sendQueueId);
-                noHandler = false;
-            }
+        // a response of any master can replace our next poll
+        if (commandChannel.getType() == IEBusCommandMethod.Type.MASTER_SLAVE) {
+            pollingScheduler.onExchangeSeen(receivedData);
         }
 
-        if (noHandler) {
+        ResolvedTelegram telegram = new ResolvedTelegram(commandChannel, result, receivedData, sendQueueId);
+
+        // any response can serve the next refresh of the same request
+        refreshService.onTelegramResolved(telegram);
+        requestService.onTelegramResolved(telegram);
+        latencyService.onTelegramResolved(commandChannel, receivedData, sendQueueId);
+
+        // hand off to the dispatcher, don't block the eBUS receiver thread
+        dispatchService.offer(telegram);
+    }
+
+    /**
+     * Dispatches a resolved telegram to all accepting handlers, called by the dispatch worker
+     *
+     * @param telegram
+     */
+    private void dispatchResolvedTelegram(ResolvedTelegram telegram) {
+
+        dispatchTiming.stop(Stage.QUEUE, telegram.getResolvedTime());
+
+        IEBusCommandMethod commandChannel = telegram.getCommandMethod();
+        byte[] receivedData = telegram.getReceivedData();
+
+        String source = EBusUtils.toHexDumpString(receivedData[0]);
+        String destination = EBusUtils.toHexDumpString(receivedData[1]);
+
+        logger.debug("Received telegram from address {} to {} with command {}", source, destination,
+                commandChannel.getParent().getId());
+
+        // lookup all child nodes that accept this telegram
+        long start = dispatchTiming.start();
+        EBusHandler[] handlers = telegramRouter.getHandlers(
+                commandChannel.getParent().getParentCollection().getId(), receivedData[0], receivedData[1]);
+        dispatchTiming.stop(Stage.ROUTE, start);
+
+        for (EBusHandler handler : handlers) {
+            start = dispatchTiming.start();
+            long recordStart = EBusFlightRecorder.start();
+            handler.getCounters().onAccepted();
+            handler.handleReceivedTelegram(commandChannel, telegram.getResult(), receivedData,
+                    telegram.getSendQueueId());
+            dispatchTiming.stop(Stage.HANDLE, start);
+            EBusFlightRecorder.dispatched(handler.getThing().getUID(), commandChannel.getParent().getId(),
+                    telegram.getSendQueueId(), recordStart);
+        }
+
+        dispatchTiming.stop(Stage.TOTAL, telegram.getResolvedTime());
+
+        if (handlers.length == 0) {
             logger.debug("No handler has accepted the command {} from {} to {} ...", commandChannel.getParent().getId(),
                     source, destination);
         }
@@ -310,6 +532,17 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     @Override
     public void onTelegramException(@Nullable EBusDataException e, @Nullable Integer sendQueueId) {
         logger.debug("eBUS telegram error; {}", e != null ? e.getLocalizedMessage() : null);
+
+        EBusFlightRecorder.telegramFailed(null, null, sendQueueId, e != null ? e.getMessage() : null);
+
+        // first, frees the send slot of the failed telegram
+        sendService.complete(sendQueueId);
+
+        pollingScheduler.onTelegramFailed(sendQueueId);
+        circuitBreaker.onFailure(sendQueueId);
+        requestService.onTelegramException(e, sendQueueId);
+        latencyService.onTelegramFailed(sendQueueId);
+        busStatistics.onTelegramException(sendQueueId);
     }
 
     /*
@@ -323,6 +556,7 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     public void onConnectionException(@Nullable Exception e) {
 
         metricsService.deactivate();
+        pollingScheduler.onConnectionStatusChanged(ConnectionStatus.DISCONNECTED);
 
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e != null ? e.getMessage() : null);
     }
@@ -350,6 +584,16 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     public void onTelegramReceived(byte @Nullable [] receivedData, @Nullable Integer sendQueueId) {
         Bridge bridge = getThing();
 
+        // first, frees the send slot of the answered telegram
+        sendService.complete(sendQueueId);
+
+        if (receivedData != null) {
+            EBusFlightRecorder.telegramReceived(receivedData, sendQueueId);
+            sendService.onTelegramReceived(receivedData, sendQueueId);
+            pollingScheduler.onTelegramReceived(receivedData, sendQueueId);
+            busStatistics.onTelegramReceived(receivedData);
+        }
+
         if (bridge.getStatus() != ThingStatus.ONLINE) {
 
             // bring the bridge back online
@@ -372,6 +616,21 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     public void onTelegramResolveFailed(@Nullable IEBusCommandMethod commandChannel, byte @Nullable [] receivedData,
             @Nullable Integer sendQueueId, @Nullable String exceptionMessage) {
 
+        EBusFlightRecorder.telegramFailed(commandChannel != null ? commandChannel.getParent().getId() : null,
+                receivedData, sendQueueId, exceptionMessage);
+
+        // an invalid response of our own telegram
+        circuitBreaker.onFailure(sendQueueId);
+        requestService.onTelegramResolveFailed(sendQueueId, exceptionMessage);
+        latencyService.onTelegramFailed(sendQueueId);
+
+        if (commandChannel != null && receivedData != null && receivedData.length > 1) {
+            for (EBusHandler handler : telegramRouter.getHandlers(
+                    commandChannel.getParent().getParentCollection().getId(), receivedData[0], receivedData[1])) {
+                handler.getCounters().onResolveFailed();
+            }
+        }
+
         if (commandChannel == null) {
             if (logger.isTraceEnabled()) {
                 logger.trace("Unknown telegram {}", EBusUtils.toHexDumpString(receivedData));
@@ -386,6 +645,9 @@ public class EBusBridgeHandler extends EBusBaseBridgeHandler
     @Override
     public void onConnectionStatusChanged(@Nullable ConnectionStatus status) {
 
+        // don't poll a dead controller
+        pollingScheduler.onConnectionStatusChanged(status);
+
         Bridge bridge = getThing();
         ThingStatus thingStatus = bridge.getStatus();
 
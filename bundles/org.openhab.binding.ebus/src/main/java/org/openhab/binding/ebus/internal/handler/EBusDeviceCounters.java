@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.handler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EBusDeviceCounters} counts the traffic and errors of a single Thing. The counters are updated from the
+ * receiver, dispatch and polling threads, so they use a {@link LongAdder} to stay cheap under contention.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusDeviceCounters {
+
+    private final LongAdder accepted = new LongAdder();
+
+    private final LongAdder updated = new LongAdder();
+
+    private final LongAdder pollsSent = new LongAdder();
+
+    private final LongAdder pollsAnswered = new LongAdder();
+
+    private final LongAdder resolveFailures = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * A resolved telegram was accepted by the Thing
+     */
+    public void onAccepted() {
+        accepted.increment();
+    }
+
+    /**
+     * A channel state was updated
+     */
+    public void onUpdated() {
+        updated.increment();
+    }
+
+    /**
+     * A polling telegram of the Thing was sent
+     */
+    public void onPollSent() {
+        pollsSent.increment();
+    }
+
+    /**
+     * A polling telegram of the Thing was answered
+     */
+    public void onPollAnswered() {
+        pollsAnswered.increment();
+    }
+
+    /**
+     * A telegram for the Thing couldn't be resolved
+     */
+    public void onResolveFailed() {
+        resolveFailures.increment();
+    }
+
+    /**
+     * A polling telegram of the Thing has failed without a response
+     */
+    public void onTimeout() {
+        timeouts.increment();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getUpdated() {
+        return updated.sum();
+    }
+
+    public long getPollsSent() {
+        return pollsSent.sum();
+    }
+
+    public long getPollsAnswered() {
+        return pollsAnswered.sum();
+    }
+
+    public long getResolveFailures() {
+        return resolveFailures.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+}
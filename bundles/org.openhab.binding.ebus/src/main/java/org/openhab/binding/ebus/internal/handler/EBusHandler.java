@@ -8,44 +8,41 @@
  */
 package org.openhab.binding.ebus.internal.handler;
 
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ACCEPTED_TELEGRAMS;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.COMMAND;
-import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_DATETIME;
-import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_NUMBER;
-import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_STRING;
-import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_SWITCH;
-import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_TEMPERATURE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.DEVICE_METRICS;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLING;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLING_MAX;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLS_ANSWERED;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLS_SENT;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLL_TIMEOUTS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.RESOLVE_FAILURES;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.UPDATED_VALUES;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.VALUE_NAME;
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
-import java.time.ZonedDateTime;
-import java.util.Calendar;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Map.Entry;
-import java.util.Random;
-import java.util.TimeZone;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
-import javax.measure.quantity.Temperature;
-
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ebus.internal.EBusHandlerConfiguration;
-import org.openhab.binding.ebus.internal.utils.EBusBindingUtils;
+import org.openhab.binding.ebus.internal.jfr.EBusFlightRecorder;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming.Stage;
+import org.openhab.binding.ebus.internal.services.EBusRefreshService;
+import org.openhab.binding.ebus.internal.services.EBusWriteCoalescer;
 import org.openhab.binding.ebus.internal.utils.EBusClientBridge;
+import org.openhab.binding.ebus.internal.utils.EBusSetterPlan;
 import org.openhab.core.config.core.Configuration;
-import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
-import org.openhab.core.library.types.OnOffType;
-import org.openhab.core.library.types.QuantityType;
-import org.openhab.core.library.types.StringType;
-import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -61,16 +58,10 @@ import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.csdev.ebus.client.EBusClient;
 import de.csdev.ebus.command.EBusCommandException;
 import de.csdev.ebus.command.IEBusCommandCollection;
 import de.csdev.ebus.command.IEBusCommandMethod;
 import de.csdev.ebus.command.datatypes.EBusTypeException;
-import de.csdev.ebus.core.EBusConsts;
-import de.csdev.ebus.core.EBusControllerException;
-import de.csdev.ebus.core.IEBusController;
-import de.csdev.ebus.core.IEBusController.ConnectionStatus;
-import de.csdev.ebus.utils.EBusDateTime;
 import de.csdev.ebus.utils.EBusUtils;
 
 /**
@@ -85,11 +76,25 @@ public class EBusHandler extends BaseThingHandler {
     @SuppressWarnings({"null"})
     private final Logger logger = LoggerFactory.getLogger(EBusHandler.class);
 
-    private Map<ChannelUID, @Nullable ByteBuffer> channelPollings = new HashMap<>();
+    private volatile EBusTelegramFilter telegramFilter = EBusTelegramFilter.ACCEPT_NONE;
+
+    private volatile @Nullable Byte slaveAddress;
+
+    /** command id -> value name -> channel */
+    private volatile Map<String, Map<String, EBusValueChannel>> valueChannels = Collections.emptyMap();
+
+    private volatile boolean filterUnchangedStates = false;
+
+    private volatile @Nullable BigDecimal stateDeadband;
+
+    private volatile long stateHeartbeatNanos = 0;
+
+    private volatile long writeCoalescingWindow = EBusWriteCoalescer.DEFAULT_WINDOW;
 
-    private Random random = new Random(12);
+    private final EBusDeviceCounters counters = new EBusDeviceCounters();
 
-    private Map<ByteBuffer, @Nullable ScheduledFuture<?>> uniqueTelegramPollings = new HashMap<>();
+    /** timing probes of the bridge, kept to avoid a bridge lookup per value */
+    private volatile @Nullable EBusDispatchTiming dispatchTiming;
 
     /**
      * @param thing
@@ -110,7 +115,23 @@ public class EBusHandler extends BaseThingHandler {
 
         EBusHandlerConfiguration configuration = getConfigAs(EBusHandlerConfiguration.class);
 
+        telegramFilter = EBusTelegramFilter.of(configuration);
+        logger.trace("eBUS handler filter {}", telegramFilter);
+
+        slaveAddress = EBusUtils.toByte(configuration.slaveAddress);
+
+        valueChannels = EBusValueChannel.createLookupTable(thing);
+        updateStateFilter(configuration);
+
+        invalidateTelegramRoutes();
+
+        EBusBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null) {
+            dispatchTiming = bridgeHandler.getDispatchTiming();
+        }
+
         Bridge bridge = getBridge();
+
         if (bridge == null) {
             logger.error("No bridge defined!");
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "No bridge defined!");
@@ -124,13 +145,76 @@ public class EBusHandler extends BaseThingHandler {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
 
         } else {
-            logger.debug("Handler is now online ...");
-            updateStatus(ThingStatus.ONLINE);
+            Byte slaveAddress = this.slaveAddress;
+
+            if (bridgeHandler != null && slaveAddress != null
+                    && bridgeHandler.getCircuitBreaker().isOpen(slaveAddress)) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                        "eBUS slave is not responding!");
+            } else {
+                logger.debug("Handler is now online ...");
+                updateStatus(ThingStatus.ONLINE);
+            }
+
+            // the pollings also probe a not responding slave
             updateAllChannelPollings();
         }
 
     }
 
+    /**
+     * Returns the traffic counters of this Thing
+     *
+     * @return
+     */
+    public EBusDeviceCounters getCounters() {
+        return counters;
+    }
+
+    /**
+     * Publishes the traffic counters to the linked device metrics channels
+     */
+    public void publishDeviceMetrics() {
+        publishDeviceMetric(ACCEPTED_TELEGRAMS, counters.getAccepted());
+        publishDeviceMetric(UPDATED_VALUES, counters.getUpdated());
+        publishDeviceMetric(POLLS_SENT, counters.getPollsSent());
+        publishDeviceMetric(POLLS_ANSWERED, counters.getPollsAnswered());
+        publishDeviceMetric(RESOLVE_FAILURES, counters.getResolveFailures());
+        publishDeviceMetric(POLL_TIMEOUTS, counters.getTimeouts());
+    }
+
+    private void publishDeviceMetric(String channelId, long value) {
+        ChannelUID channelUID = new ChannelUID(thing.getUID(), DEVICE_METRICS, channelId);
+        if (isLinked(channelUID)) {
+            updateState(channelUID, new DecimalType(value));
+        }
+    }
+
+    /**
+     * Updates the Thing status if the circuit of a slave has changed
+     *
+     * @param slaveAddress
+     * @param open
+     * @param retrySeconds
+     */
+    public void onSlaveCircuitChanged(byte slaveAddress, boolean open, long retrySeconds) {
+        Byte address = this.slaveAddress;
+        if (address == null || address != slaveAddress) {
+            return;
+        }
+
+        ThingStatusInfo statusInfo = thing.getStatusInfo();
+
+        if (open) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    String.format("eBUS slave is not responding, next probe in %d sec.", retrySeconds));
+
+        } else if (statusInfo.getStatus() == ThingStatus.OFFLINE
+                && statusInfo.getStatusDetail() == ThingStatusDetail.COMMUNICATION_ERROR) {
+            updateStatus(ThingStatus.ONLINE);
+        }
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         logger.debug("Bridge status changed to {}.", bridgeStatusInfo.getStatus());
@@ -142,13 +226,26 @@ public class EBusHandler extends BaseThingHandler {
             disposeAllChannelPollings();
         }
     }
-    
+
     @Override
     public void channelLinked(ChannelUID channelUID) {
-        super.channelLinked(channelUID);
-
         logger.trace("channelLinked {}", channelUID);
+
+        // always publish the next state to the new link
+        Channel channel = thing.getChannel(channelUID.getId());
+        EBusValueChannel valueChannel = channel != null ? getValueChannel(channel) : null;
+        if (valueChannel != null) {
+            valueChannel.resetPublished();
+        }
+
         initializeChannelPolling(channelUID);
+
+        // the initial value comes from the refresh cache or the next poll, so a new link doesn't bypass the polling limits
+        if (channel != null && channel.getProperties().get(COMMAND) != null) {
+            refreshChannel(channelUID, false);
+        } else {
+            super.channelLinked(channelUID);
+        }
     }
 
     @Override
@@ -169,74 +266,101 @@ public class EBusHandler extends BaseThingHandler {
 
         logger.trace("dispose handler {}", this.thing.getUID());
 
+        invalidateTelegramRoutes();
+
         disposeAllChannelPollings();
     }
 
     private void disposeAllChannelPollings() {
-        synchronized(uniqueTelegramPollings) {
-            // Cancel all polling jobs
-            for (Entry<ByteBuffer, @Nullable ScheduledFuture<?>> entry : uniqueTelegramPollings.entrySet()) {
-                logger.debug("Remove polling job for {}", EBusUtils.toHexDumpString(entry.getKey()));
-
-                ScheduledFuture<?> value = entry.getValue();
-                if (value != null) {
-                    value.cancel(true);
-                }
-            }
-            uniqueTelegramPollings.clear();
+        EBusBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null) {
+            logger.debug("Remove all polling jobs for {}", thing.getUID());
+            bridgeHandler.getPollingScheduler().unregisterAll(thing.getUID());
         }
-        channelPollings.clear();
     }
 
     /**
-     * Assign a value to a channel.
+     * Applies the state filter and write parameters of the configuration
      *
-     * @param channel
-     * @param value
+     * @param configuration
      */
-    private void assignValueToChannel(Channel channel, @Nullable Object value) {
+    private void updateStateFilter(EBusHandlerConfiguration configuration) {
+        filterUnchangedStates = BooleanUtils.isTrue(configuration.filterUnchangedStates);
+        stateDeadband = configuration.stateDeadband;
 
-        String acceptedItemType = channel.getAcceptedItemType();
+        BigDecimal stateHeartbeat = configuration.stateHeartbeat;
+        stateHeartbeatNanos = stateHeartbeat != null ? TimeUnit.SECONDS.toNanos(stateHeartbeat.longValue()) : 0;
 
-        State state = null;
+        BigDecimal writeCoalescingWindow = configuration.writeCoalescingWindow;
+        this.writeCoalescingWindow = writeCoalescingWindow != null ? writeCoalescingWindow.longValue()
+                : EBusWriteCoalescer.DEFAULT_WINDOW;
+    }
 
-        if (ITEM_TYPE_NUMBER.equals(acceptedItemType)) {
-            if (value instanceof BigDecimal) {
-                state = new DecimalType((BigDecimal) value);
+    /**
+     * Returns the channel for an eBUS channel or null
+     *
+     * @param channel
+     * @return
+     */
+    private @Nullable EBusValueChannel getValueChannel(Channel channel) {
+        Map<String, String> properties = channel.getProperties();
+        String commandId = properties.get(COMMAND);
+        String valueName = properties.get(VALUE_NAME);
+
+        if (commandId != null && valueName != null) {
+            Map<String, EBusValueChannel> commandChannels = valueChannels.get(commandId);
+            if (commandChannels != null) {
+                return commandChannels.get(valueName);
             }
+        }
 
-        } else if (ITEM_TYPE_TEMPERATURE.equals(acceptedItemType)) {
-            if (value instanceof BigDecimal) {
-                state = new QuantityType<Temperature>((BigDecimal) value, SIUnits.CELSIUS);
-            }
+        return null;
+    }
 
-        } else if (ITEM_TYPE_STRING.equals(acceptedItemType)) {
-            if (value instanceof BigDecimal) {
-                state = new StringType(((BigDecimal) value).toString());
+    /**
+     * Publishes a state, unchanged states are skipped if the filter is enabled and the heartbeat is not reached
+     *
+     * @param valueChannel
+     * @param state
+     */
+    private void publishState(EBusValueChannel valueChannel, State state) {
+        long now = System.nanoTime();
 
-            } else if (value instanceof String) {
-                state = new StringType((String) value);
+        if (filterUnchangedStates && valueChannel.isUnchanged(state, stateDeadband)
+                && (stateHeartbeatNanos <= 0 || now - valueChannel.getLastPublished() < stateHeartbeatNanos)) {
+            logger.trace("Skip unchanged state {} for channel {}", state, valueChannel.getChannelUID());
+            return;
+        }
 
-            } else if (value instanceof byte[]) {
-                // show bytes as hex string
-                state = new StringType(EBusUtils.toHexDumpString((byte[]) value).toString());
-            }
+        valueChannel.setPublished(state, now);
 
-        } else if (ITEM_TYPE_SWITCH.equals(acceptedItemType)) {
-            if (value instanceof Boolean) {
-                boolean isOn = ((Boolean) value).booleanValue();
-                state = isOn ? OnOffType.ON : OnOffType.OFF;
-            }
+        EBusDispatchTiming dispatchTiming = this.dispatchTiming;
+        long start = dispatchTiming != null ? dispatchTiming.start() : 0;
 
-        } else if (ITEM_TYPE_DATETIME.equals(acceptedItemType)) {
+        updateState(valueChannel.getChannelUID(), state);
+        counters.onUpdated();
+        EBusFlightRecorder.stateUpdated(valueChannel.getChannelUID(), state);
 
-            if (value instanceof EBusDateTime) {
-                Calendar calendar = ((EBusDateTime) value).getCalendar();
-                ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(calendar.toInstant(),
-                        TimeZone.getDefault().toZoneId());
+        if (dispatchTiming != null) {
+            dispatchTiming.stop(Stage.UPDATE, start);
+        }
+    }
 
-                state = new DateTimeType(zonedDateTime);
-            }
+    /**
+     * Assign a value to a channel.
+     *
+     * @param valueChannel
+     * @param value
+     */
+    private void assignValueToChannel(EBusValueChannel valueChannel, @Nullable Object value) {
+
+        EBusDispatchTiming dispatchTiming = this.dispatchTiming;
+        long start = dispatchTiming != null ? dispatchTiming.start() : 0;
+
+        State state = valueChannel.getConverter().convert(value);
+
+        if (dispatchTiming != null) {
+            dispatchTiming.stop(Stage.CONVERT, start);
         }
 
         if (state == null) {
@@ -244,33 +368,23 @@ public class EBusHandler extends BaseThingHandler {
                 state = UnDefType.NULL;
             } else {
                 logger.warn("Unexpected datatype {} for channel {} [accepted type: {}] !",
-                        value.getClass().getSimpleName(), channel.getChannelTypeUID(), acceptedItemType);
+                        value.getClass().getSimpleName(), valueChannel.getChannel().getChannelTypeUID(),
+                        valueChannel.getAcceptedItemType());
                 state = UnDefType.UNDEF;
             }
         }
 
-        updateState(channel.getUID(), state);
+        publishState(valueChannel, state);
     }
 
     /**
      * @param channelUID
      */
     private void disposeChannelPolling(ChannelUID channelUID) {
-
-        if (channelPollings.containsKey(channelUID)) {
-            ByteBuffer telegram = channelPollings.remove(channelUID);
-
-            if (!channelPollings.containsValue(telegram)) {
-                // remove last
-                ScheduledFuture<?> future = uniqueTelegramPollings.remove(telegram);
-                if (future != null) {
-                    future.cancel(true);
-                }
-
-                logger.debug("Cancel polling job for \"{}\" ...", channelUID);
-            } else {
-                logger.debug("Polling job still in use for \"{}\" ...", channelUID);
-            }
+        EBusBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null) {
+            // the job is cancelled with its last channel of all Things
+            bridgeHandler.getPollingScheduler().unregister(channelUID);
         }
     }
 
@@ -312,6 +426,28 @@ public class EBusHandler extends BaseThingHandler {
         return pollingPeriod;
     }
 
+    /**
+     * Returns the maximum interval for adaptive polling, equal to the polling interval if not set
+     *
+     * @param channel
+     * @param pollingPeriod
+     * @return
+     */
+    private long getChannelPollingMaxInterval(Channel channel, long pollingPeriod) {
+
+        long pollingMax = 0;
+        if (channel.getConfiguration().get(POLLING_MAX) instanceof Number) {
+            pollingMax = ((Number) channel.getConfiguration().get(POLLING_MAX)).longValue();
+        }
+
+        // overwrite with global maximum if not set
+        if (pollingMax == 0 && thing.getConfiguration().get(POLLING_MAX) instanceof Number) {
+            pollingMax = ((Number) thing.getConfiguration().get(POLLING_MAX)).longValue();
+        }
+
+        return Math.max(pollingPeriod, pollingMax);
+    }
+
     /**
      * Generates the raw telegram for a channel
      *
@@ -332,7 +468,7 @@ public class EBusHandler extends BaseThingHandler {
                 return libClient.generatePollingTelegram(collectionId, commandId, IEBusCommandMethod.Method.GET, thing);
             }
 
-        } catch (EBusTypeException  e) {  
+        } catch (EBusTypeException  e) {
             logger.error("error!", e);
         } catch (EBusCommandException e) {
             // noop
@@ -361,6 +497,29 @@ public class EBusHandler extends BaseThingHandler {
         throw new IllegalStateException("Unable to get an eBUS Client from Backend");
     }
 
+    /**
+     * Returns the handler of the bridge, if available
+     *
+     * @return
+     */
+    private @Nullable EBusBridgeHandler getBridgeHandler() {
+        Bridge bridge = getBridge();
+        if (bridge != null && bridge.getHandler() instanceof EBusBridgeHandler) {
+            return (EBusBridgeHandler) bridge.getHandler();
+        }
+        return null;
+    }
+
+    /**
+     * Drops the telegram routes of the bridge, if available
+     */
+    private void invalidateTelegramRoutes() {
+        EBusBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null) {
+            bridgeHandler.invalidateTelegramRoutes();
+        }
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -371,22 +530,117 @@ public class EBusHandler extends BaseThingHandler {
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
 
-        if (!(command instanceof RefreshType)) {
-            Channel channel = thing.getChannel(channelUID.getId());
+        Channel channel = thing.getChannel(channelUID.getId());
 
-            if (channel != null) {
-                try {
-                    EBusClientBridge libClient = getLibClient();
-                    ByteBuffer telegram = libClient.generateSetterTelegram(thing, channel, command);
-                    libClient.sendTelegram(telegram);
-                } catch (EBusTypeException | EBusControllerException | EBusCommandException e) {
-                    logger.error("error!", e);
-                }
+        if (channel == null) {
+            return;
+        }
+
+        // not an eBUS channel, e.g. the device metrics
+        if (channel.getProperties().get(COMMAND) == null) {
+            if (command instanceof RefreshType) {
+                publishDeviceMetrics();
+            }
+            return;
+        }
+
+        if (command instanceof RefreshType) {
+            refreshChannel(channelUID, true);
+
+        } else {
+            // the item state could differ now, so always publish the next received state
+            EBusValueChannel valueChannel = getValueChannel(channel);
+            if (valueChannel != null) {
+                valueChannel.resetPublished();
+            }
+
+            EBusBridgeHandler bridgeHandler = getBridgeHandler();
+            if (bridgeHandler != null) {
+                String commandKey = thing.getUID() + ":" + channel.getProperties().get(COMMAND);
 
+                // only the newest command of a burst is composed and sent
+                bridgeHandler.getWriteCoalescer().submit(channelUID, commandKey, writeCoalescingWindow, () -> {
+                    try {
+                        return EBusUtils.toByteArray(generateSetterTelegram(channel, valueChannel, command));
+                    } catch (EBusTypeException | EBusCommandException e) {
+                        logger.error("error!", e);
+                        return null;
+                    }
+                });
+            } else {
+                logger.debug("Unable to send command {} to channel {}, the bridge is not available", command,
+                        channelUID);
             }
         }
     }
 
+    /**
+     * Builds the setter telegram of a channel. The setter plan is cached with the value channel, so it's rebuilt on a
+     * Thing update or a reloaded eBUS configuration.
+     *
+     * @param channel
+     * @param valueChannel
+     * @param command
+     * @return
+     * @throws EBusTypeException
+     * @throws EBusCommandException
+     */
+    private ByteBuffer generateSetterTelegram(Channel channel, @Nullable EBusValueChannel valueChannel,
+            Command command) throws EBusTypeException, EBusCommandException {
+
+        EBusClientBridge libClient = getLibClient();
+
+        if (valueChannel == null) {
+            return libClient.generateSetterTelegram(thing, channel, command);
+        }
+
+        EBusSetterPlan setterPlan = valueChannel.getSetterPlan();
+        if (setterPlan == null || !libClient.isCurrent(setterPlan)) {
+            setterPlan = libClient.createSetterPlan(thing, channel);
+            valueChannel.setSetterPlan(setterPlan);
+        }
+
+        return libClient.generateSetterTelegram(setterPlan, command);
+    }
+
+    /**
+     * Requests a fresh value for a channel, a recent response is served from the cache of the bridge
+     *
+     * @param channelUID
+     * @param send <code>false</code> to serve the channel only from the cache
+     */
+    private void refreshChannel(ChannelUID channelUID, boolean send) {
+
+        Channel channel = thing.getChannel(channelUID.getId());
+        if (channel == null) {
+            return;
+        }
+
+        // only value channels of a pollable command
+        EBusValueChannel valueChannel = getValueChannel(channel);
+        if (valueChannel == null || StringUtils.startsWith(channel.getProperties().get(VALUE_NAME), "_")) {
+            return;
+        }
+
+        EBusBridgeHandler bridgeHandler = getBridgeHandler();
+        ByteBuffer telegram = getChannelTelegram(channel);
+
+        if (bridgeHandler == null || telegram == null) {
+            return;
+        }
+
+        // a refresh always publishes the next state
+        valueChannel.resetPublished();
+
+        EBusRefreshService refreshService = bridgeHandler.getRefreshService();
+        byte[] data = EBusUtils.toByteArray(telegram);
+        ResolvedTelegram cached = send ? refreshService.refresh(data) : refreshService.getCached(data);
+        if (cached != null) {
+            logger.trace("Refresh channel {} from cache ...", channelUID);
+            handleReceivedTelegram(cached.getCommandMethod(), cached.getResult(), cached.getReceivedData(), null);
+        }
+    }
+
     /**
      * Processes the received telegram with this handler.
      *
@@ -400,21 +654,26 @@ public class EBusHandler extends BaseThingHandler {
 
         logger.debug("Handle received command by thing {} with id {} ...", thing.getLabel(), thing.getUID());
 
+        Map<String, EBusValueChannel> commandChannels = valueChannels.get(commandChannel.getParent().getId());
+
+        if (commandChannels == null) {
+            logger.debug("Unable to find any channel for command {}", commandChannel.getParent().getId());
+            return;
+        }
+
         for (Entry<String, Object> resultEntry : result.entrySet()) {
 
             logger.trace("Key {} with value {}", resultEntry.getKey(), resultEntry.getValue());
 
-            ChannelUID channelUID = EBusBindingUtils.generateChannelUID(commandChannel.getParent(),
-                    resultEntry.getKey(), thing.getUID());
+            EBusValueChannel valueChannel = commandChannels.get(resultEntry.getKey());
 
-            Channel channel = thing.getChannel(channelUID.getId());
-
-            if (channel == null) {
-                logger.debug("Unable to find the channel with channelUID {}", channelUID.getId());
+            if (valueChannel == null) {
+                logger.debug("Unable to find the channel for value {} of command {}", resultEntry.getKey(),
+                        commandChannel.getParent().getId());
                 return;
             }
 
-            assignValueToChannel(channel, resultEntry.getValue());
+            assignValueToChannel(valueChannel, resultEntry.getValue());
         }
     }
 
@@ -440,6 +699,11 @@ public class EBusHandler extends BaseThingHandler {
             return;
         }
 
+        // not an eBUS channel, e.g. the device metrics
+        if (channel.getProperties().get(COMMAND) == null) {
+            return;
+        }
+
         long pollingPeriod = getChannelPollingInterval(channel);
 
         // a valid value for polling ?
@@ -449,7 +713,7 @@ public class EBusHandler extends BaseThingHandler {
         }
 
         @Nullable final String commandId = channel.getProperties().get(COMMAND);
-        
+
         if (StringUtils.isEmpty(commandId)) {
             logger.warn("Invalid channel uid {}", channelUID);
             logger.warn("Invalid channel {}", channel);
@@ -462,50 +726,25 @@ public class EBusHandler extends BaseThingHandler {
         // valid telegram ?
         if (telegram != null) {
 
-            // polling for raw telegram already active?
-            if (!channelPollings.containsValue(telegram)) {
-
-                // random execution delay to prevent too many pollings at the same time (0-30s)
-                int firstExecutionDelay = random.nextInt(30);
-
-                // create a job to send this raw telegram every n seconds
-                ScheduledFuture<?> job = scheduler.scheduleWithFixedDelay(() -> {
-                    logger.trace("Poll command \"{}\" with \"{}\" ...", channel.getUID(),
-                            EBusUtils.toHexDumpString(telegram));
+            EBusBridgeHandler bridgeHandler = getBridgeHandler();
 
-                    try {
-                        EBusClientBridge libClient = EBusHandler.this.getLibClient();
-                        IEBusController controller = libClient.getController();
-                        EBusClient client = libClient.getClient();
-                        if (controller != null && controller.getConnectionStatus() == ConnectionStatus.CONNECTED) {
-                            client.addToSendQueue(EBusUtils.toByteArray(telegram), 2);
-                        } else {
-                            logger.trace("Unable to send polling command due to a unconnected controller");
-                        }
-
-                    } catch (EBusControllerException e) {
-                        logger.debug("Remove polling job for {} due to controller exception", channelUID);
-                        this.disposeChannelPolling(channelUID);
-                    }
+            if (bridgeHandler != null) {
+                long pollingMax = getChannelPollingMaxInterval(channel, pollingPeriod);
 
-                }, firstExecutionDelay, pollingPeriod, TimeUnit.SECONDS);
+                // identical telegrams of all Things of the bridge share one polling job
+                bridgeHandler.getPollingScheduler().register(channel.getUID(), EBusUtils.toByteArray(telegram), pollingPeriod,
+                        pollingMax, TimeUnit.SECONDS);
 
-                if (job != null) {
-                    // add this job to global list, so we can stop all later on.
-                    uniqueTelegramPollings.put(telegram, job);
-
-                    logger.info("Register polling for \"{}\" every {} sec. (initial delay {} sec.)", commandId,
-                            pollingPeriod, firstExecutionDelay);
+                if (pollingMax > pollingPeriod) {
+                    logger.info("Register adaptive polling for \"{}\" every {} to {} sec.", commandId, pollingPeriod,
+                            pollingMax);
+                } else {
+                    logger.info("Register polling for \"{}\" every {} sec.", commandId, pollingPeriod);
                 }
-
             } else {
-
-                logger.info("Raw telegram already in use for polling, skip addition polling for \"{}\"!",
-                        channel.getUID());
+                logger.info("Unable to register polling for \"{}\", bridge not available!", commandId);
             }
 
-            channelPollings.put(channel.getUID(), telegram);
-
         } else {
             logger.info("Unable to create raw polling telegram for \"{}\" !", commandId);
         }
@@ -564,67 +803,17 @@ public class EBusHandler extends BaseThingHandler {
     }
 
     /**
-     * Check if this handler supportes the given command. In this case this method returns true.
+     * Check if this handler supportes a telegram of the given collection and addresses. In this case this method
+     * returns true.
      *
-     * @param receivedData
-     * @param commandMethod
+     * @param collectionId
+     * @param sourceAddress
+     * @param destinationAddress
      * @return
      */
-    @SuppressWarnings({"java:S3776"})
-    public boolean supportsTelegram(byte[] receivedData, IEBusCommandMethod commandMethod) {
-
-        final String collectionId = thing.getThingTypeUID().getId();
-        if (!commandMethod.getParent().getParentCollection().getId().equals(collectionId)) {
-            return false;
-        }
-
-        EBusHandlerConfiguration configuration = getConfigAs(EBusHandlerConfiguration.class);
-        logger.trace("eBUS handler cfg {}", configuration);
-
-        byte sourceAddress = receivedData[0];
-        byte destinationAddress = receivedData[1];
-
-        Byte masterAddress = EBusUtils.toByte(configuration.masterAddress);
-        Byte slaveAddress = EBusUtils.toByte(configuration.slaveAddress);
-
-        boolean filterAcceptSource = BooleanUtils.isTrue(configuration.filterAcceptMaster);
-        boolean filterAcceptDestination = BooleanUtils.isTrue(configuration.filterAcceptSlave);
-        boolean filterAcceptBroadcast = BooleanUtils.isTrue(configuration.filterAcceptBroadcasts);
-
-        // only interesting for broadcasts
-        Byte masterAddressComp = masterAddress == null
-                ? (slaveAddress != null ? EBusUtils.getMasterAddress(slaveAddress) : null)
-                : masterAddress;
-
-        // check if broadcast filter is set (default true)
-        if (filterAcceptBroadcast && destinationAddress == EBusConsts.BROADCAST_ADDRESS) {
-            if (masterAddressComp != null && sourceAddress == masterAddressComp) {
-                return true;
-            }
-        }
-
-        // check if source address filter is set
-        if (filterAcceptSource && masterAddress != null) {
-            if (masterAddress == sourceAddress) {
-                return true;
-            }
-        }
-
-        // check if destination address filter is set (default true)
-        if (filterAcceptDestination) {
-
-            if (EBusUtils.isMasterAddress(destinationAddress) && masterAddressComp != null
-                    && destinationAddress == masterAddressComp) {
-                // master-master telegram
-                return true;
-
-            } else if (slaveAddress != null && slaveAddress == destinationAddress) {
-                // master-slave telegram
-                return true;
-            }
-        }
-
-        return false;
+    public boolean supportsTelegram(String collectionId, byte sourceAddress, byte destinationAddress) {
+        return thing.getThingTypeUID().getId().equals(collectionId)
+                && telegramFilter.accepts(sourceAddress, destinationAddress);
     }
 
     @Override
@@ -635,6 +824,20 @@ public class EBusHandler extends BaseThingHandler {
 
         this.thing = thing;
 
+        EBusHandlerConfiguration configuration = getConfigAs(EBusHandlerConfiguration.class);
+
+        telegramFilter = EBusTelegramFilter.of(configuration);
+        logger.trace("eBUS handler filter {}", telegramFilter);
+
+        // the state of the slave circuit follows the new address
+        slaveAddress = EBusUtils.toByte(configuration.slaveAddress);
+
+        valueChannels = EBusValueChannel.createLookupTable(thing);
+        updateStateFilter(configuration);
+
+        // the address filter could be changed
+        invalidateTelegramRoutes();
+
         for (Channel oldChannel : currentThing.getChannels()) {
 
             Channel newChannel = thing.getChannel(oldChannel.getUID().getId());
@@ -662,9 +865,7 @@ public class EBusHandler extends BaseThingHandler {
      * Updates all channel pollings
      */
     private void updateAllChannelPollings() {
-        synchronized(uniqueTelegramPollings) {
-            logger.info("(Re)Initialize all eBUS pollings for {} ...", thing.getUID());
-            thing.getChannels().forEach(channel -> updateChannelPolling(channel.getUID()));
-        }
+        logger.info("(Re)Initialize all eBUS pollings for {} ...", thing.getUID());
+        thing.getChannels().forEach(channel -> updateChannelPolling(channel.getUID()));
     }
 }
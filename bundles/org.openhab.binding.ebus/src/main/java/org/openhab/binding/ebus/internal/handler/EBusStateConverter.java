@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.handler;
+
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_DATETIME;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_NUMBER;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_STRING;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_SWITCH;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.ITEM_TYPE_TEMPERATURE;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+
+import de.csdev.ebus.utils.EBusDateTime;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusStateConverter} converts a decoded eBUS value to the state of a channel. A converter is selected once
+ * per channel by its accepted item type.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+@FunctionalInterface
+public interface EBusStateConverter {
+
+    /** Used for unknown item types, never returns a state */
+    EBusStateConverter NONE = value -> null;
+
+    EBusStateConverter NUMBER = value -> value instanceof BigDecimal ? new DecimalType((BigDecimal) value) : null;
+
+    EBusStateConverter SWITCH = value -> {
+        if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue() ? OnOffType.ON : OnOffType.OFF;
+        }
+        return null;
+    };
+
+    EBusStateConverter TEMPERATURE = quantity(SIUnits.CELSIUS);
+
+    EBusStateConverter STRING = value -> {
+        if (value instanceof String) {
+            return new StringType((String) value);
+
+        } else if (value instanceof BigDecimal) {
+            return new StringType(((BigDecimal) value).toString());
+
+        } else if (value instanceof byte[]) {
+            // show bytes as hex string
+            return new StringType(EBusUtils.toHexDumpString((byte[]) value).toString());
+        }
+        return null;
+    };
+
+    /**
+     * Converts a value to a state
+     *
+     * @param value the decoded value
+     * @return the state or <code>null</code> if the value doesn't fit to this converter
+     */
+    @Nullable
+    State convert(@Nullable Object value);
+
+    /**
+     * Returns the converter for an accepted item type
+     *
+     * @param acceptedItemType
+     * @return
+     */
+    static EBusStateConverter forItemType(@Nullable String acceptedItemType) {
+
+        if (ITEM_TYPE_NUMBER.equals(acceptedItemType)) {
+            return NUMBER;
+
+        } else if (ITEM_TYPE_TEMPERATURE.equals(acceptedItemType)) {
+            return TEMPERATURE;
+
+        } else if (ITEM_TYPE_STRING.equals(acceptedItemType)) {
+            return STRING;
+
+        } else if (ITEM_TYPE_SWITCH.equals(acceptedItemType)) {
+            return SWITCH;
+
+        } else if (ITEM_TYPE_DATETIME.equals(acceptedItemType)) {
+            return dateTime(ZoneId.systemDefault());
+        }
+
+        return NONE;
+    }
+
+    /**
+     * Returns a converter for numbers with a fixed unit
+     *
+     * @param unit
+     * @return
+     */
+    static EBusStateConverter quantity(Unit<Temperature> unit) {
+        return value -> value instanceof BigDecimal ? new QuantityType<Temperature>((BigDecimal) value, unit) : null;
+    }
+
+    /**
+     * Returns a converter for eBUS date time values in a fixed time zone
+     *
+     * @param zoneId
+     * @return
+     */
+    static EBusStateConverter dateTime(ZoneId zoneId) {
+        return value -> value instanceof EBusDateTime
+                ? new DateTimeType(ZonedDateTime.ofInstant(((EBusDateTime) value).getCalendar().toInstant(), zoneId))
+                : null;
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.handler;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.EBusHandlerConfiguration;
+
+import de.csdev.ebus.core.EBusConsts;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusTelegramFilter} is the precomputed, immutable address filter of an {@link EBusHandler}.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public final class EBusTelegramFilter {
+
+    /** A filter that doesn't accept any telegram, used until a handler is initialized */
+    public static final EBusTelegramFilter ACCEPT_NONE = new EBusTelegramFilter(null, null, false, false, false);
+
+    private final boolean hasMasterAddress;
+    private final byte masterAddress;
+
+    private final boolean hasSlaveAddress;
+    private final byte slaveAddress;
+
+    /** master address or the master address derived from the slave address */
+    private final boolean hasMasterAddressComp;
+    private final byte masterAddressComp;
+
+    private final boolean filterAcceptSource;
+    private final boolean filterAcceptDestination;
+    private final boolean filterAcceptBroadcast;
+
+    private EBusTelegramFilter(@Nullable Byte masterAddress, @Nullable Byte slaveAddress,
+            boolean filterAcceptSource, boolean filterAcceptDestination, boolean filterAcceptBroadcast) {
+
+        this.hasMasterAddress = masterAddress != null;
+        this.masterAddress = masterAddress != null ? masterAddress : 0;
+
+        this.hasSlaveAddress = slaveAddress != null;
+        this.slaveAddress = slaveAddress != null ? slaveAddress : 0;
+
+        // only interesting for broadcasts
+        Byte masterAddressComp = masterAddress == null
+                ? (slaveAddress != null ? EBusUtils.getMasterAddress(slaveAddress) : null)
+                : masterAddress;
+
+        this.hasMasterAddressComp = masterAddressComp != null;
+        this.masterAddressComp = masterAddressComp != null ? masterAddressComp : 0;
+
+        this.filterAcceptSource = filterAcceptSource;
+        this.filterAcceptDestination = filterAcceptDestination;
+        this.filterAcceptBroadcast = filterAcceptBroadcast;
+    }
+
+    /**
+     * Creates a filter from a handler configuration
+     *
+     * @param configuration
+     * @return
+     */
+    public static EBusTelegramFilter of(EBusHandlerConfiguration configuration) {
+        return new EBusTelegramFilter(EBusUtils.toByte(configuration.masterAddress),
+                EBusUtils.toByte(configuration.slaveAddress), BooleanUtils.isTrue(configuration.filterAcceptMaster),
+                BooleanUtils.isTrue(configuration.filterAcceptSlave),
+                BooleanUtils.isTrue(configuration.filterAcceptBroadcasts));
+    }
+
+    /**
+     * Returns true if a telegram with the given addresses passes this filter
+     *
+     * @param sourceAddress
+     * @param destinationAddress
+     * @return
+     */
+    public boolean accepts(byte sourceAddress, byte destinationAddress) {
+
+        // check if broadcast filter is set (default true)
+        if (filterAcceptBroadcast && destinationAddress == EBusConsts.BROADCAST_ADDRESS && hasMasterAddressComp
+                && sourceAddress == masterAddressComp) {
+            return true;
+        }
+
+        // check if source address filter is set
+        if (filterAcceptSource && hasMasterAddress && masterAddress == sourceAddress) {
+            return true;
+        }
+
+        // check if destination address filter is set (default true)
+        if (filterAcceptDestination) {
+
+            if (EBusUtils.isMasterAddress(destinationAddress) && hasMasterAddressComp
+                    && destinationAddress == masterAddressComp) {
+                // master-master telegram
+                return true;
+
+            } else if (hasSlaveAddress && slaveAddress == destinationAddress) {
+                // master-slave telegram
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "EBusTelegramFilter [masterAddress="
+                + (hasMasterAddress ? EBusUtils.toHexDumpString(masterAddress) : null) + ", slaveAddress="
+                + (hasSlaveAddress ? EBusUtils.toHexDumpString(slaveAddress) : null)
+                + ", filterAcceptSource=" + filterAcceptSource + ", filterAcceptDestination="
+                + filterAcceptDestination + ", filterAcceptBroadcast=" + filterAcceptBroadcast + "]";
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.binding.ThingHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EBusTelegramRouter} is the routing index of a bridge. It maps a collection id plus the source and
+ * destination address of a telegram to all {@link EBusHandler}s that accept it.
+ *
+ * Routes are computed on the first telegram for a key and kept until a child Thing is added, removed or
+ * reconfigured.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusTelegramRouter {
+
+    private static final EBusHandler[] NO_HANDLERS = new EBusHandler[0];
+
+    private final Logger logger = LoggerFactory.getLogger(EBusTelegramRouter.class);
+
+    private final IEBusBridgeHandler bridgeHandler;
+
+    /** collection id -> (source << 8 | destination) -> accepting handlers */
+    private volatile Map<String, Map<Integer, EBusHandler[]>> routes = new ConcurrentHashMap<>();
+
+    public EBusTelegramRouter(IEBusBridgeHandler bridgeHandler) {
+        this.bridgeHandler = bridgeHandler;
+    }
+
+    /**
+     * Returns all handlers that accept a telegram of the given collection and addresses
+     *
+     * @param collectionId
+     * @param source
+     * @param destination
+     * @return
+     */
+    public EBusHandler[] getHandlers(String collectionId, byte source, byte destination) {
+
+        // use a local reference, a concurrent invalidate only drops the old index
+        Map<String, Map<Integer, EBusHandler[]>> currentRoutes = this.routes;
+
+        Map<Integer, EBusHandler[]> collectionRoutes = currentRoutes.get(collectionId);
+        if (collectionRoutes == null) {
+            collectionRoutes = new ConcurrentHashMap<>();
+            Map<Integer, EBusHandler[]> previous = currentRoutes.putIfAbsent(collectionId, collectionRoutes);
+            if (previous != null) {
+                collectionRoutes = previous;
+            }
+        }
+
+        Integer key = ((source & 0xFF) << 8) | (destination & 0xFF);
+
+        EBusHandler[] handlers = collectionRoutes.get(key);
+        if (handlers == null) {
+            handlers = computeHandlers(collectionId, source, destination);
+            collectionRoutes.put(key, handlers);
+        }
+
+        return handlers;
+    }
+
+    /**
+     * Drops all routes, they will be recomputed on the next telegram
+     */
+    public void invalidate() {
+        logger.trace("Invalidate eBUS telegram routes for bridge {}", bridgeHandler.getThing().getUID());
+        routes = new ConcurrentHashMap<>();
+    }
+
+    private EBusHandler[] computeHandlers(String collectionId, byte source, byte destination) {
+
+        List<EBusHandler> handlers = new ArrayList<>();
+
+        for (Thing thing : bridgeHandler.getThing().getThings()) {
+            ThingHandler handler = thing.getHandler();
+
+            if (handler instanceof EBusHandler && ((EBusHandler) handler).supportsTelegram(collectionId, source,
+                    destination)) {
+                handlers.add((EBusHandler) handler);
+            }
+        }
+
+        return handlers.isEmpty() ? NO_HANDLERS : handlers.toArray(new EBusHandler[handlers.size()]);
+    }
+}
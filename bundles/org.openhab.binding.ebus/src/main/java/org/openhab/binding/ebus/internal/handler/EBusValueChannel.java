@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.handler;
+
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.COMMAND;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.utils.EBusSetterPlan;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link EBusValueChannel} is a channel of a Thing, resolved for an eBUS command id and value name.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusValueChannel {
+
+    private final Channel channel;
+
+    private final @Nullable String acceptedItemType;
+
+    private final EBusStateConverter converter;
+
+    /** last state published to the framework */
+    private volatile @Nullable State lastState;
+
+    /** time of the last publish in nano seconds */
+    private volatile long lastPublished;
+
+    /** prepared setter telegram, created on the first command */
+    private volatile @Nullable EBusSetterPlan setterPlan;
+
+    public EBusValueChannel(Channel channel) {
+        this.channel = channel;
+        this.acceptedItemType = channel.getAcceptedItemType();
+        this.converter = EBusStateConverter.forItemType(acceptedItemType);
+    }
+
+    public Channel getChannel() {
+        return channel;
+    }
+
+    public ChannelUID getChannelUID() {
+        return channel.getUID();
+    }
+
+    public @Nullable String getAcceptedItemType() {
+        return acceptedItemType;
+    }
+
+    public EBusStateConverter getConverter() {
+        return converter;
+    }
+
+    public @Nullable EBusSetterPlan getSetterPlan() {
+        return setterPlan;
+    }
+
+    public void setSetterPlan(@Nullable EBusSetterPlan setterPlan) {
+        this.setterPlan = setterPlan;
+    }
+
+    /**
+     * Stores the state as last published state
+     *
+     * @param state
+     * @param nanoTime
+     */
+    public void setPublished(State state, long nanoTime) {
+        this.lastState = state;
+        this.lastPublished = nanoTime;
+    }
+
+    /**
+     * Forgets the last published state, the next state is always published
+     */
+    public void resetPublished() {
+        this.lastState = null;
+    }
+
+    /**
+     * Returns true if the state is equal to the last published state or its numeric value within the deadband
+     *
+     * @param state
+     * @param deadband
+     * @return
+     */
+    public boolean isUnchanged(State state, @Nullable BigDecimal deadband) {
+
+        State last = this.lastState;
+
+        if (last == null) {
+            return false;
+        }
+
+        if (last.equals(state)) {
+            return true;
+        }
+
+        if (deadband != null && deadband.signum() > 0) {
+            BigDecimal lastValue = toBigDecimal(last);
+            BigDecimal value = toBigDecimal(state);
+
+            if (lastValue != null && value != null) {
+                return lastValue.subtract(value).abs().compareTo(deadband) <= 0;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the nano time of the last publish
+     *
+     * @return
+     */
+    public long getLastPublished() {
+        return lastPublished;
+    }
+
+    private static @Nullable BigDecimal toBigDecimal(State state) {
+        if (state instanceof DecimalType) {
+            return ((DecimalType) state).toBigDecimal();
+        } else if (state instanceof QuantityType<?>) {
+            return ((QuantityType<?>) state).toBigDecimal();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the lookup table command id -> value name -> channel for all eBUS channels of a Thing
+     *
+     * @param thing
+     * @return
+     */
+    public static Map<String, Map<String, EBusValueChannel>> createLookupTable(Thing thing) {
+
+        Map<String, Map<String, EBusValueChannel>> table = new HashMap<>();
+
+        for (Channel channel : thing.getChannels()) {
+            Map<String, String> properties = channel.getProperties();
+
+            String commandId = properties.get(COMMAND);
+            String valueName = properties.get(VALUE_NAME);
+
+            if (commandId != null && valueName != null) {
+                table.computeIfAbsent(commandId, k -> new HashMap<>()).put(valueName, new EBusValueChannel(channel));
+            }
+        }
+
+        return Collections.unmodifiableMap(table);
+    }
+}
@@ -11,9 +11,21 @@ package org.openhab.binding.ebus.internal.handler;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming;
+import org.openhab.binding.ebus.internal.services.EBusBusStatistics;
+import org.openhab.binding.ebus.internal.services.EBusLatencyService;
+import org.openhab.binding.ebus.internal.services.EBusPollingScheduler;
+import org.openhab.binding.ebus.internal.services.EBusRefreshService;
+import org.openhab.binding.ebus.internal.services.EBusRequestService;
+import org.openhab.binding.ebus.internal.services.EBusSendService;
+import org.openhab.binding.ebus.internal.services.EBusSlaveCircuitBreaker;
+import org.openhab.binding.ebus.internal.services.EBusWriteCoalescer;
 import org.openhab.binding.ebus.internal.utils.EBusClientBridge;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.State;
 
@@ -36,6 +48,84 @@ public interface IEBusBridgeHandler extends ThingHandler {
 
     public ScheduledExecutorService getBindingScheduler();
 
+    /**
+     * Returns the dispatcher for resolved telegrams
+     *
+     * @return
+     */
+    public EBusDispatchService getDispatchService();
+
+    /**
+     * Returns the timing probes of the dispatch path of this bridge
+     *
+     * @return
+     */
+    public EBusDispatchTiming getDispatchTiming();
+
+    /**
+     * Returns the scheduler for all polling jobs of this bridge
+     *
+     * @return
+     */
+    public EBusPollingScheduler getPollingScheduler();
+
+    /**
+     * Returns the prioritized send path of this bridge
+     *
+     * @return
+     */
+    public EBusSendService getSendService();
+
+    /**
+     * Returns the health tracker of all slaves of this bridge
+     *
+     * @return
+     */
+    public EBusSlaveCircuitBreaker getCircuitBreaker();
+
+    /**
+     * Returns the on-demand refresh of this bridge
+     *
+     * @return
+     */
+    public EBusRefreshService getRefreshService();
+
+    /**
+     * Returns the write coalescer of this bridge
+     *
+     * @return
+     */
+    public EBusWriteCoalescer getWriteCoalescer();
+
+    /**
+     * Returns the request/response API of this bridge
+     *
+     * @return
+     */
+    public EBusRequestService getRequestService();
+
+    /**
+     * Returns the response latency histograms of this bridge
+     *
+     * @return
+     */
+    public EBusLatencyService getLatencyService();
+
+    /**
+     * Returns the bus utilization statistics of this bridge
+     *
+     * @return
+     */
+    public EBusBusStatistics getBusStatistics();
+
+    /**
+     * Returns the traffic counters of a child Thing, if initialized
+     *
+     * @param thingUID
+     * @return
+     */
+    public @Nullable EBusDeviceCounters getDeviceCounters(ThingUID thingUID);
+
     public void updateState(ChannelUID channelUID, State state);
 
     public void updateState(String channelID, State state);
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.jfr;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.types.State;
+
+import de.csdev.ebus.utils.EBusUtils;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The {@link EBusEventEmitter} holds all flight recorder event types. It's only loaded by the
+ * {@link EBusFlightRecorder} if <code>jdk.jfr</code> is available.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+final class EBusEventEmitter {
+
+    private static final String PREFIX = "org.openhab.binding.ebus.";
+
+    private EBusEventEmitter() {
+        // static only
+    }
+
+    @Name(PREFIX + "TelegramReceived")
+    @Label("Telegram Received")
+    @Category({ "openHAB", "eBUS" })
+    @StackTrace(false)
+    static final class TelegramReceivedEvent extends Event {
+
+        @Label("Source")
+        String source = "";
+
+        @Label("Destination")
+        String destination = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+
+        @Label("Length")
+        int length;
+    }
+
+    @Name(PREFIX + "TelegramResolved")
+    @Label("Telegram Resolved")
+    @Category({ "openHAB", "eBUS" })
+    @StackTrace(false)
+    static final class TelegramResolvedEvent extends Event {
+
+        @Label("Command")
+        String command = "";
+
+        @Label("Source")
+        String source = "";
+
+        @Label("Destination")
+        String destination = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+    }
+
+    @Name(PREFIX + "TelegramFailed")
+    @Label("Telegram Failed")
+    @Category({ "openHAB", "eBUS" })
+    @StackTrace(false)
+    static final class TelegramFailedEvent extends Event {
+
+        @Label("Command")
+        @Nullable
+        String command;
+
+        @Label("Source")
+        @Nullable
+        String source;
+
+        @Label("Destination")
+        @Nullable
+        String destination;
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+
+        @Label("Message")
+        @Nullable
+        String message;
+    }
+
+    @Name(PREFIX + "Dispatched")
+    @Label("Telegram Dispatched")
+    @Category({ "openHAB", "eBUS" })
+    @StackTrace(false)
+    static final class DispatchedEvent extends Event {
+
+        @Label("Thing")
+        String thing = "";
+
+        @Label("Command")
+        String command = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+
+        @Label("Duration")
+        @Timespan(Timespan.NANOSECONDS)
+        long handled;
+    }
+
+    @Name(PREFIX + "StateUpdated")
+    @Label("State Updated")
+    @Category({ "openHAB", "eBUS" })
+    @StackTrace(false)
+    static final class StateUpdatedEvent extends Event {
+
+        @Label("Channel")
+        String channel = "";
+
+        @Label("State")
+        String state = "";
+    }
+
+    @Name(PREFIX + "PollScheduled")
+    @Label("Poll Scheduled")
+    @Category({ "openHAB", "eBUS", "Polling" })
+    @StackTrace(false)
+    static final class PollScheduledEvent extends Event {
+
+        @Label("Telegram")
+        String telegram = "";
+
+        @Label("Period")
+        @Timespan(Timespan.SECONDS)
+        long period;
+    }
+
+    @Name(PREFIX + "PollSent")
+    @Label("Poll Sent")
+    @Category({ "openHAB", "eBUS", "Polling" })
+    @StackTrace(false)
+    static final class PollSentEvent extends Event {
+
+        @Label("Telegram")
+        String telegram = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+    }
+
+    @Name(PREFIX + "PollAnswered")
+    @Label("Poll Answered")
+    @Category({ "openHAB", "eBUS", "Polling" })
+    @StackTrace(false)
+    static final class PollAnsweredEvent extends Event {
+
+        @Label("Telegram")
+        String telegram = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+
+        @Label("Latency")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+    }
+
+    @Name(PREFIX + "SendEnqueued")
+    @Label("Send Enqueued")
+    @Category({ "openHAB", "eBUS", "Send Queue" })
+    @StackTrace(false)
+    static final class SendEnqueuedEvent extends Event {
+
+        @Label("Send Class")
+        String sendClass = "";
+
+        @Label("Priority")
+        int priority;
+
+        @Label("Queue Size")
+        int queueSize;
+    }
+
+    @Name(PREFIX + "SendDequeued")
+    @Label("Send Dequeued")
+    @Category({ "openHAB", "eBUS", "Send Queue" })
+    @StackTrace(false)
+    static final class SendDequeuedEvent extends Event {
+
+        @Label("Send Class")
+        String sendClass = "";
+
+        @Label("Send Queue Id")
+        int sendQueueId;
+
+        @Label("Wait Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long waitTime;
+    }
+
+    static void telegramReceived(byte[] receivedData, @Nullable Integer sendQueueId) {
+        TelegramReceivedEvent event = new TelegramReceivedEvent();
+        if (event.shouldCommit()) {
+            event.source = toAddress(receivedData, 0);
+            event.destination = toAddress(receivedData, 1);
+            event.sendQueueId = toId(sendQueueId);
+            event.length = receivedData.length;
+            event.commit();
+        }
+    }
+
+    static void telegramResolved(String commandId, byte[] receivedData, @Nullable Integer sendQueueId) {
+        TelegramResolvedEvent event = new TelegramResolvedEvent();
+        if (event.shouldCommit()) {
+            event.command = commandId;
+            event.source = toAddress(receivedData, 0);
+            event.destination = toAddress(receivedData, 1);
+            event.sendQueueId = toId(sendQueueId);
+            event.commit();
+        }
+    }
+
+    static void telegramFailed(@Nullable String commandId, byte @Nullable [] receivedData,
+            @Nullable Integer sendQueueId, @Nullable String message) {
+        TelegramFailedEvent event = new TelegramFailedEvent();
+        if (event.shouldCommit()) {
+            event.command = commandId;
+            if (receivedData != null) {
+                event.source = toAddress(receivedData, 0);
+                event.destination = toAddress(receivedData, 1);
+            }
+            event.sendQueueId = toId(sendQueueId);
+            event.message = message;
+            event.commit();
+        }
+    }
+
+    static void dispatched(ThingUID thingUID, String commandId, @Nullable Integer sendQueueId, long start) {
+        DispatchedEvent event = new DispatchedEvent();
+        if (event.shouldCommit()) {
+            event.handled = start != 0 ? System.nanoTime() - start : 0;
+            event.thing = thingUID.getAsString();
+            event.command = commandId;
+            event.sendQueueId = toId(sendQueueId);
+            event.commit();
+        }
+    }
+
+    static void stateUpdated(ChannelUID channelUID, State state) {
+        StateUpdatedEvent event = new StateUpdatedEvent();
+        if (event.shouldCommit()) {
+            event.channel = channelUID.getAsString();
+            event.state = state.toFullString();
+            event.commit();
+        }
+    }
+
+    static void pollScheduled(byte[] telegram, long periodSeconds) {
+        PollScheduledEvent event = new PollScheduledEvent();
+        if (event.shouldCommit()) {
+            event.telegram = EBusUtils.toHexDumpString(telegram).toString();
+            event.period = periodSeconds;
+            event.commit();
+        }
+    }
+
+    static void pollSent(byte[] telegram, Integer sendQueueId) {
+        PollSentEvent event = new PollSentEvent();
+        if (event.shouldCommit()) {
+            event.telegram = EBusUtils.toHexDumpString(telegram).toString();
+            event.sendQueueId = sendQueueId;
+            event.commit();
+        }
+    }
+
+    static void pollAnswered(byte[] telegram, Integer sendQueueId, long start) {
+        PollAnsweredEvent event = new PollAnsweredEvent();
+        if (event.shouldCommit()) {
+            event.latency = start != 0 ? System.nanoTime() - start : 0;
+            event.telegram = EBusUtils.toHexDumpString(telegram).toString();
+            event.sendQueueId = sendQueueId;
+            event.commit();
+        }
+    }
+
+    static void sendEnqueued(String sendClass, int priority, int queueSize) {
+        SendEnqueuedEvent event = new SendEnqueuedEvent();
+        if (event.shouldCommit()) {
+            event.sendClass = sendClass;
+            event.priority = priority;
+            event.queueSize = queueSize;
+            event.commit();
+        }
+    }
+
+    static void sendDequeued(String sendClass, @Nullable Integer sendQueueId, long enqueued) {
+        SendDequeuedEvent event = new SendDequeuedEvent();
+        if (event.shouldCommit()) {
+            event.waitTime = System.nanoTime() - enqueued;
+            event.sendClass = sendClass;
+            event.sendQueueId = toId(sendQueueId);
+            event.commit();
+        }
+    }
+
+    private static String toAddress(byte[] receivedData, int index) {
+        return receivedData.length > index ? EBusUtils.toHexDumpString(receivedData[index]) : "";
+    }
+
+    /**
+     * @return the send queue id or -1 for a telegram of another master
+     */
+    private static int toId(@Nullable Integer sendQueueId) {
+        return sendQueueId != null ? sendQueueId : -1;
+    }
+}
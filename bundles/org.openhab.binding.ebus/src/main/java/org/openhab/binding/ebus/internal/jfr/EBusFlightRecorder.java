@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.jfr;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link EBusFlightRecorder} emits Java Flight Recorder events for the lifecycle of a telegram. The package
+ * <code>jdk.jfr</code> is an optional import, so all events are only touched if it's available. An event that is not
+ * recorded costs a flag check.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public final class EBusFlightRecorder {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private EBusFlightRecorder() {
+        // static only
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, EBusFlightRecorder.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the flight recorder events are available
+     *
+     * @return
+     */
+    public static boolean isEnabled() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Returns a start time for an event with a duration
+     *
+     * @return the {@link System#nanoTime()} or 0 if not available
+     */
+    public static long start() {
+        return AVAILABLE ? System.nanoTime() : 0;
+    }
+
+    public static void telegramReceived(byte[] receivedData, @Nullable Integer sendQueueId) {
+        if (AVAILABLE) {
+            EBusEventEmitter.telegramReceived(receivedData, sendQueueId);
+        }
+    }
+
+    public static void telegramResolved(String commandId, byte[] receivedData, @Nullable Integer sendQueueId) {
+        if (AVAILABLE) {
+            EBusEventEmitter.telegramResolved(commandId, receivedData, sendQueueId);
+        }
+    }
+
+    public static void telegramFailed(@Nullable String commandId, byte @Nullable [] receivedData,
+            @Nullable Integer sendQueueId, @Nullable String message) {
+        if (AVAILABLE) {
+            EBusEventEmitter.telegramFailed(commandId, receivedData, sendQueueId, message);
+        }
+    }
+
+    public static void dispatched(ThingUID thingUID, String commandId, @Nullable Integer sendQueueId, long start) {
+        if (AVAILABLE) {
+            EBusEventEmitter.dispatched(thingUID, commandId, sendQueueId, start);
+        }
+    }
+
+    public static void stateUpdated(ChannelUID channelUID, State state) {
+        if (AVAILABLE) {
+            EBusEventEmitter.stateUpdated(channelUID, state);
+        }
+    }
+
+    public static void pollScheduled(byte[] telegram, long periodSeconds) {
+        if (AVAILABLE) {
+            EBusEventEmitter.pollScheduled(telegram, periodSeconds);
+        }
+    }
+
+    public static void pollSent(byte[] telegram, Integer sendQueueId) {
+        if (AVAILABLE) {
+            EBusEventEmitter.pollSent(telegram, sendQueueId);
+        }
+    }
+
+    public static void pollAnswered(byte[] telegram, Integer sendQueueId, long start) {
+        if (AVAILABLE) {
+            EBusEventEmitter.pollAnswered(telegram, sendQueueId, start);
+        }
+    }
+
+    public static void sendEnqueued(String sendClass, int priority, int queueSize) {
+        if (AVAILABLE) {
+            EBusEventEmitter.sendEnqueued(sendClass, priority, queueSize);
+        }
+    }
+
+    public static void sendDequeued(String sendClass, @Nullable Integer sendQueueId, long enqueued) {
+        if (AVAILABLE) {
+            EBusEventEmitter.sendDequeued(sendClass, sendQueueId, enqueued);
+        }
+    }
+}
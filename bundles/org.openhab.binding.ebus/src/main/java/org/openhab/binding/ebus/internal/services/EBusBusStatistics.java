@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.csdev.ebus.core.EBusConsts;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusBusStatistics} collects the utilization of the bus from the received telegrams of the connector. The
+ * connector doesn't report single bytes, so all bytes that are not part of a telegram are counted as idle (SYN).
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusBusStatistics {
+
+    /**
+     * Statistics since the last read
+     */
+    public static final class Snapshot {
+
+        private final double bytesPerSecond;
+        private final double utilization;
+        private final double broadcastsPerMinute;
+        private final double masterMasterPerMinute;
+        private final double masterSlavePerMinute;
+
+        private Snapshot(double bytesPerSecond, double utilization, double broadcastsPerMinute,
+                double masterMasterPerMinute, double masterSlavePerMinute) {
+            this.bytesPerSecond = bytesPerSecond;
+            this.utilization = utilization;
+            this.broadcastsPerMinute = broadcastsPerMinute;
+            this.masterMasterPerMinute = masterMasterPerMinute;
+            this.masterSlavePerMinute = masterSlavePerMinute;
+        }
+
+        /**
+         * @return telegram bytes per second
+         */
+        public double getBytesPerSecond() {
+            return bytesPerSecond;
+        }
+
+        /**
+         * @return share of the bus capacity in percent that is not idle
+         */
+        public double getUtilization() {
+            return utilization;
+        }
+
+        public double getBroadcastsPerMinute() {
+            return broadcastsPerMinute;
+        }
+
+        public double getMasterMasterPerMinute() {
+            return masterMasterPerMinute;
+        }
+
+        public double getMasterSlavePerMinute() {
+            return masterSlavePerMinute;
+        }
+    }
+
+    private long bytes = 0;
+
+    private long broadcasts = 0;
+
+    private long masterMaster = 0;
+
+    private long masterSlave = 0;
+
+    private long start = System.nanoTime();
+
+    private final AtomicLong ownSendErrors = new AtomicLong();
+
+    /**
+     * Counts a received telegram, called for all received telegrams
+     *
+     * @param receivedData
+     */
+    public void onTelegramReceived(byte[] receivedData) {
+        if (receivedData.length < 2) {
+            return;
+        }
+
+        byte destination = receivedData[1];
+
+        synchronized (this) {
+            bytes += receivedData.length;
+
+            if (destination == EBusConsts.BROADCAST_ADDRESS) {
+                broadcasts++;
+            } else if (EBusUtils.isMasterAddress(destination)) {
+                masterMaster++;
+            } else {
+                masterSlave++;
+            }
+        }
+    }
+
+    /**
+     * Counts a failed telegram, only our own telegrams have a send queue id. The connector reports collisions, lost
+     * arbitrations and missing acknowledges this way.
+     *
+     * @param sendQueueId
+     */
+    public void onTelegramException(@Nullable Integer sendQueueId) {
+        if (sendQueueId != null) {
+            ownSendErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of failed sends of our own telegrams
+     *
+     * @return
+     */
+    public long getOwnSendErrors() {
+        return ownSendErrors.get();
+    }
+
+    /**
+     * Returns the statistics since the last call and resets them
+     *
+     * @return
+     */
+    public synchronized Snapshot poll() {
+        long now = System.nanoTime();
+        double seconds = (now - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        Snapshot snapshot;
+        if (seconds <= 0) {
+            snapshot = new Snapshot(0, 0, 0, 0, 0);
+        } else {
+            double bytesPerSecond = bytes / seconds;
+            snapshot = new Snapshot(bytesPerSecond,
+                    Math.min(100, bytesPerSecond * 100 / EBusPollingScheduler.BUS_BYTES_PER_SECOND),
+                    broadcasts * 60 / seconds, masterMaster * 60 / seconds, masterSlave * 60 / seconds);
+        }
+
+        bytes = 0;
+        broadcasts = 0;
+        masterMaster = 0;
+        masterSlave = 0;
+        start = now;
+
+        return snapshot;
+    }
+}
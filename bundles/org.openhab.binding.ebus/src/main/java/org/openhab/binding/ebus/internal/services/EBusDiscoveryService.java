@@ -23,6 +23,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ebus.internal.EBusBindingConstants;
 import org.openhab.binding.ebus.internal.handler.EBusBridgeHandler;
 import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -78,7 +79,8 @@ public class EBusDiscoveryService extends AbstractDiscoveryService implements IE
 
         EBusDeviceTableService deviceTableService = getDeviceTableService();
         if (deviceTableService != null) {
-            deviceTableService.inquiryDeviceExistence();
+            // the inquiry waits behind all commands and polls
+            bridgeHandle.getSendService().run(SendClass.DISCOVERY, deviceTableService::inquiryDeviceExistence);
         }
     }
 
@@ -0,0 +1,322 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.DISPATCH_POLICY_DROP_OLDEST;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.command.IEBusCommandMethod;
+
+/**
+ * The {@link EBusDispatchService} decouples the eBUS receiver thread from the openHAB state updates. Resolved
+ * telegrams are queued in a bounded queue and processed by a worker on the binding scheduler.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusDispatchService {
+
+    public static final int DEFAULT_CAPACITY = 500;
+
+    /**
+     * Policy if the queue is full
+     */
+    public enum OverflowPolicy {
+
+        /** Remove the oldest queued telegram */
+        DROP_OLDEST,
+
+        /** Replace a queued telegram with the same command and addresses if full, drop the oldest otherwise */
+        COALESCE;
+
+        /**
+         * Returns the policy for a configuration value, default is {@link #COALESCE}
+         *
+         * @param value
+         * @return
+         */
+        public static OverflowPolicy fromConfiguration(@Nullable String value) {
+            return DISPATCH_POLICY_DROP_OLDEST.equals(value) ? DROP_OLDEST : COALESCE;
+        }
+    }
+
+    /**
+     * A resolved telegram waiting for dispatch
+     */
+    public static final class ResolvedTelegram {
+
+        private final IEBusCommandMethod commandMethod;
+        private final Map<String, @Nullable Object> result;
+        private final byte[] receivedData;
+        private final @Nullable Integer sendQueueId;
+        private final long resolvedTime;
+
+        public ResolvedTelegram(IEBusCommandMethod commandMethod, Map<String, @Nullable Object> result,
+                byte[] receivedData, @Nullable Integer sendQueueId) {
+            this.commandMethod = commandMethod;
+            this.result = result;
+            this.receivedData = receivedData;
+            this.sendQueueId = sendQueueId;
+            this.resolvedTime = System.nanoTime();
+        }
+
+        public IEBusCommandMethod getCommandMethod() {
+            return commandMethod;
+        }
+
+        public Map<String, @Nullable Object> getResult() {
+            return result;
+        }
+
+        public byte[] getReceivedData() {
+            return receivedData;
+        }
+
+        public @Nullable Integer getSendQueueId() {
+            return sendQueueId;
+        }
+
+        /**
+         * @return the {@link System#nanoTime()} of the resolved telegram
+         */
+        public long getResolvedTime() {
+            return resolvedTime;
+        }
+    }
+
+    /**
+     * Key to coalesce telegrams that update the same channels
+     */
+    private static final class CoalesceKey {
+
+        private final IEBusCommandMethod commandMethod;
+        private final int addresses;
+
+        private CoalesceKey(IEBusCommandMethod commandMethod, byte[] receivedData) {
+            this.commandMethod = commandMethod;
+            this.addresses = ((receivedData[0] & 0xFF) << 8) | (receivedData[1] & 0xFF);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(commandMethod) + addresses;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CoalesceKey)) {
+                return false;
+            }
+            CoalesceKey other = (CoalesceKey) obj;
+            return commandMethod == other.commandMethod && addresses == other.addresses;
+        }
+    }
+
+    private static final class Entry {
+
+        private final @Nullable CoalesceKey key;
+
+        private ResolvedTelegram telegram;
+
+        private Entry(@Nullable CoalesceKey key, ResolvedTelegram telegram) {
+            this.key = key;
+            this.telegram = telegram;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusDispatchService.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    private final Consumer<ResolvedTelegram> consumer;
+
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+
+    /** latest queued entry per key */
+    private final Map<CoalesceKey, Entry> pending = new HashMap<>();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private int capacity = DEFAULT_CAPACITY;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.COALESCE;
+
+    private boolean active = false;
+
+    private boolean draining = false;
+
+    public EBusDispatchService(IEBusBridgeHandler bridge, Consumer<ResolvedTelegram> consumer) {
+        this.bridge = bridge;
+        this.consumer = consumer;
+    }
+
+    /**
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public void configure(int capacity, OverflowPolicy overflowPolicy) {
+        synchronized (queue) {
+            this.capacity = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
+
+    public void activate() {
+        synchronized (queue) {
+            active = true;
+        }
+    }
+
+    public void deactivate() {
+        synchronized (queue) {
+            active = false;
+            queue.clear();
+            pending.clear();
+        }
+    }
+
+    /**
+     * Returns the number of telegrams that were dropped
+     *
+     * @return
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of telegrams that were replaced by a newer telegram on a full queue
+     *
+     * @return
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of queued telegrams
+     *
+     * @return
+     */
+    public int getSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Adds a resolved telegram to the queue, never blocks the caller
+     *
+     * @param telegram
+     */
+    public void offer(ResolvedTelegram telegram) {
+
+        boolean startWorker = false;
+
+        synchronized (queue) {
+
+            if (!active) {
+                return;
+            }
+
+            CoalesceKey key = null;
+            if (overflowPolicy == OverflowPolicy.COALESCE) {
+                key = new CoalesceKey(telegram.getCommandMethod(), telegram.getReceivedData());
+
+                // the queue is full, replace a not yet dispatched telegram for the same channels
+                Entry entry = pending.get(key);
+                if (entry != null && queue.size() >= capacity) {
+                    entry.telegram = telegram;
+                    coalesced.incrementAndGet();
+                    return;
+                }
+            }
+
+            if (queue.size() >= capacity) {
+                Entry oldest = queue.pollFirst();
+                CoalesceKey oldestKey = oldest != null ? oldest.key : null;
+                if (oldestKey != null) {
+                    pending.remove(oldestKey, oldest);
+                }
+                dropped.incrementAndGet();
+                logger.debug("eBUS dispatch queue is full, drop oldest telegram ...");
+            }
+
+            Entry entry = new Entry(key, telegram);
+            queue.addLast(entry);
+
+            if (key != null) {
+                pending.put(key, entry);
+            }
+
+            if (!draining) {
+                draining = true;
+                startWorker = true;
+            }
+        }
+
+        if (startWorker) {
+            try {
+                bridge.getBindingScheduler().execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Unable to start eBUS dispatch worker: {}", e.getMessage());
+                synchronized (queue) {
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes all queued telegrams in order
+     */
+    private void drain() {
+        while (true) {
+            ResolvedTelegram telegram;
+
+            synchronized (queue) {
+                Entry entry = queue.pollFirst();
+                if (entry == null) {
+                    draining = false;
+                    return;
+                }
+
+                CoalesceKey key = entry.key;
+                if (key != null) {
+                    pending.remove(key, entry);
+                }
+
+                telegram = entry.telegram;
+            }
+
+            try {
+                consumer.accept(telegram);
+            } catch (RuntimeException e) {
+                logger.error("error!", e);
+            }
+        }
+    }
+}
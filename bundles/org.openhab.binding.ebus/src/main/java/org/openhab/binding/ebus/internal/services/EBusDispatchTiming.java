@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EBusDispatchTiming} measures the stages from a resolved telegram to the state update in µs. The probes
+ * are disabled by default, a disabled probe only reads a volatile flag.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusDispatchTiming {
+
+    /**
+     * The measured stages of the dispatch path
+     */
+    public enum Stage {
+        /** from the resolved telegram to the dispatch worker */
+        QUEUE,
+        /** lookup of all accepting handlers */
+        ROUTE,
+        /** processing of a telegram by one handler */
+        HANDLE,
+        /** conversion of a value to a state */
+        CONVERT,
+        /** state update of a channel */
+        UPDATE,
+        /** from the resolved telegram to the last handler */
+        TOTAL
+    }
+
+    private final Map<Stage, EBusLatencyHistogram> histograms = new EnumMap<>(Stage.class);
+
+    private volatile boolean enabled = false;
+
+    public EBusDispatchTiming() {
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new EBusLatencyHistogram(TimeUnit.MICROSECONDS));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts a measurement
+     *
+     * @return the start time or 0 if disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a stage since a start time, ignored if the measurement wasn't started
+     *
+     * @param stage
+     * @param start the value of {@link #start()} or a {@link System#nanoTime()}
+     */
+    public void stop(Stage stage, long start) {
+        if (start != 0 && enabled) {
+            EBusLatencyHistogram histogram = histograms.get(stage);
+            if (histogram != null) {
+                histogram.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram of a stage in µs
+     *
+     * @param stage
+     * @return
+     */
+    public EBusLatencyHistogram getHistogram(Stage stage) {
+        EBusLatencyHistogram histogram = histograms.get(stage);
+        if (histogram == null) {
+            throw new IllegalArgumentException("Unknown stage " + stage);
+        }
+        return histogram;
+    }
+
+    /**
+     * Drops all measurements
+     */
+    public void reset() {
+        histograms.values().forEach(EBusLatencyHistogram::reset);
+    }
+}
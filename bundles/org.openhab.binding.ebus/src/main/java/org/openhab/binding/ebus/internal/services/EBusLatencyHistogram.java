@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link EBusLatencyHistogram} is a fixed size histogram of latencies over a rolling window, in ms by default. The
+ * buckets grow exponentially with four sub-buckets per power of two, so a percentile is accurate to about 25%.
+ *
+ * The window is split into slots. Recording is lock-free, only the first value of a new slot clears the reused slot
+ * under the lock of this slot and publishes the new epoch afterwards. So a value of the current slot is never lost,
+ * values recorded in the same moment may only be missed by a concurrent read.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusLatencyHistogram {
+
+    /** the largest bucket starts at about 4 minutes in any unit */
+    private static final long RANGE_NANOS = TimeUnit.MINUTES.toNanos(4);
+
+    private static final int SLOTS = 5;
+
+    private static final long SLOT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final class Slot {
+
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLongArray counts;
+        private final AtomicLong max = new AtomicLong();
+
+        private Slot(int buckets) {
+            counts = new AtomicLongArray(buckets);
+        }
+    }
+
+    private final Slot[] slots = new Slot[SLOTS];
+
+    private final TimeUnit unit;
+
+    private final int buckets;
+
+    /** the slots count from here, {@link System#nanoTime()} itself may be negative */
+    private final long origin = System.nanoTime();
+
+    public EBusLatencyHistogram() {
+        this(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param unit the unit of all recorded and returned values
+     */
+    public EBusLatencyHistogram(TimeUnit unit) {
+        this.unit = unit;
+        this.buckets = bucket(unit.convert(RANGE_NANOS, TimeUnit.NANOSECONDS), Integer.MAX_VALUE) + 1;
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new Slot(buckets);
+        }
+    }
+
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Records a latency
+     *
+     * @param nanos
+     */
+    public void record(long nanos) {
+        long value = unit.convert(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+        long epoch = epoch();
+
+        Slot slot = slots[Math.floorMod(epoch, SLOTS)];
+        if (slot.epoch.get() != epoch) {
+            synchronized (slot) {
+                if (slot.epoch.get() != epoch) {
+                    // reuse an outdated slot, other recorders wait until it's cleared
+                    clear(slot);
+                    slot.epoch.set(epoch);
+                }
+            }
+        }
+
+        slot.counts.incrementAndGet(bucket(value, buckets));
+        slot.max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Drops all recorded latencies
+     */
+    public void reset() {
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                slot.epoch.set(-1);
+                clear(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of latencies in the window
+     *
+     * @return
+     */
+    public long getCount() {
+        long count = 0;
+        long epoch = epoch();
+        for (Slot slot : slots) {
+            if (isActive(slot, epoch)) {
+                for (int i = 0; i < buckets; i++) {
+                    count += slot.counts.get(i);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the maximum latency in the window
+     *
+     * @return
+     */
+    public long getMax() {
+        long max = 0;
+        long epoch = epoch();
+        for (Slot slot : slots) {
+            if (isActive(slot, epoch)) {
+                max = Math.max(max, slot.max.get());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns a percentile in the window, the upper bound of its bucket but never above the maximum
+     *
+     * @param percentile between 0 and 100
+     * @return the latency or 0 if empty
+     */
+    public long getPercentile(double percentile) {
+        long epoch = epoch();
+        long[] counts = new long[buckets];
+        long total = 0;
+        long max = 0;
+
+        for (Slot slot : slots) {
+            if (isActive(slot, epoch)) {
+                for (int i = 0; i < buckets; i++) {
+                    long count = slot.counts.get(i);
+                    counts[i] += count;
+                    total += count;
+                }
+                max = Math.max(max, slot.max.get());
+            }
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100d));
+        long sum = 0;
+        for (int i = 0; i < buckets; i++) {
+            sum += counts[i];
+            if (sum >= rank) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * @return the current slot epoch, never negative
+     */
+    private long epoch() {
+        return (System.nanoTime() - origin) / SLOT_NANOS;
+    }
+
+    private void clear(Slot slot) {
+        for (int i = 0; i < buckets; i++) {
+            slot.counts.set(i, 0);
+        }
+        slot.max.set(0);
+    }
+
+    private static boolean isActive(Slot slot, long epoch) {
+        long slotEpoch = slot.epoch.get();
+        return slotEpoch >= 0 && epoch - slotEpoch < SLOTS;
+    }
+
+    private static int bucket(long value, int buckets) {
+        if (value < 4) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (exponent - 2)) & 3);
+        return Math.min(buckets - 1, (exponent - 1) * 4 + sub);
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+
+        int exponent = bucket / 4 + 1;
+        long lower = (long) (4 + bucket % 4) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.csdev.ebus.command.IEBusCommandMethod;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusLatencyService} records the latency from handing a telegram to the eBUS core until its resolved
+ * response, per command and destination address and in total.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusLatencyService {
+
+    /** number of send queue ids waiting for a response */
+    private static final int MAX_PENDING = 256;
+
+    /** number of command and destination pairs with their own histogram */
+    private static final int MAX_HISTOGRAMS = 256;
+
+    /** send queue id -> handed time */
+    private final Map<Integer, Long> pending = new LinkedHashMap<Integer, Long>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<Integer, Long> eldest) {
+            return size() > MAX_PENDING;
+        }
+    };
+
+    private final Map<String, EBusLatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final EBusLatencyHistogram total = new EBusLatencyHistogram();
+
+    /**
+     * Registers the time a telegram was handed to the eBUS core
+     *
+     * @param sendQueueId
+     * @param telegram
+     */
+    public void onSent(Integer sendQueueId, byte[] telegram) {
+        long now = System.nanoTime();
+        synchronized (pending) {
+            pending.put(sendQueueId, now);
+        }
+    }
+
+    /**
+     * Records the latency of a resolved response of our own telegram
+     *
+     * @param commandMethod
+     * @param receivedData
+     * @param sendQueueId
+     */
+    public void onTelegramResolved(IEBusCommandMethod commandMethod, byte[] receivedData,
+            @Nullable Integer sendQueueId) {
+        if (sendQueueId == null || receivedData.length < 2) {
+            return;
+        }
+
+        Long sent;
+        synchronized (pending) {
+            sent = pending.remove(sendQueueId);
+        }
+
+        if (sent == null) {
+            return;
+        }
+
+        long latency = System.nanoTime() - sent;
+        total.record(latency);
+
+        String key = commandMethod.getParent().getId() + " @ " + EBusUtils.toHexDumpString(receivedData[1]);
+        EBusLatencyHistogram histogram = histograms.get(key);
+        if (histogram == null && histograms.size() < MAX_HISTOGRAMS) {
+            histogram = histograms.computeIfAbsent(key, k -> new EBusLatencyHistogram());
+        }
+
+        if (histogram != null) {
+            histogram.record(latency);
+        }
+    }
+
+    /**
+     * Drops a telegram without a response
+     *
+     * @param sendQueueId
+     */
+    public void onTelegramFailed(@Nullable Integer sendQueueId) {
+        if (sendQueueId != null) {
+            synchronized (pending) {
+                pending.remove(sendQueueId);
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram of all telegrams
+     *
+     * @return
+     */
+    public EBusLatencyHistogram getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the histograms per command and destination address
+     *
+     * @return
+     */
+    public Map<String, EBusLatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+}
@@ -8,11 +8,35 @@
  */
 package org.openhab.binding.ebus.internal.services;
 
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.BROADCASTS_PER_MINUTE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.BUS_BYTES_PER_SECOND;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.BUS_UTILIZATION;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.COALESCED_TELEGRAMS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.COALESCED_WRITES;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.DROPPED_TELEGRAMS;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.FAILED_RATIO;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.FAILED_TELEGRAMS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.LATENCY_MAX;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.LATENCY_P50;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.LATENCY_P95;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.LATENCY_P99;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.MASTER_MASTER_PER_MINUTE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.MASTER_SLAVE_PER_MINUTE;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.METRICS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.OWN_BUS_SHARE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.OWN_SEND_ERRORS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLS_DEFERRED;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.POLLS_DUE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_AVERAGE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_DISCOVERY;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_INTERACTIVE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_P95;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_POLL;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.QUEUE_WAIT_RULE_ACTION;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.RECEIVED_TELEGRAMS;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.RESOLVED_TELEGRAMS;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.SENDS_PER_MINUTE;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.SEND_QUEUE_DEPTH;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.SEND_RECEIVE_ROUNDTRIP_TIME;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.UNRESOLVED_RATIO;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.UNRESOLVED_TELEGRAMS;
@@ -22,9 +46,14 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.EBusHandler;
 import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusBusStatistics.Snapshot;
+import org.openhab.binding.ebus.internal.services.EBusSendService.QueueStatistics;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,6 +116,75 @@ public class EBusMetricsService {
                 bridge.updateState(new ChannelUID(thingUID, METRICS, UNRESOLVED_RATIO),
                         new DecimalType(metricsService.getUnresolvedRatio()));
 
+                bridge.updateState(new ChannelUID(thingUID, METRICS, DROPPED_TELEGRAMS),
+                        new DecimalType(bridge.getDispatchService().getDropped()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, COALESCED_TELEGRAMS),
+                        new DecimalType(bridge.getDispatchService().getCoalesced()));
+
+                EBusPollingScheduler pollingScheduler = bridge.getPollingScheduler();
+                bridge.updateState(new ChannelUID(thingUID, METRICS, POLLS_DUE),
+                        new DecimalType(pollingScheduler.getDueCount()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, POLLS_DEFERRED),
+                        new DecimalType(pollingScheduler.getDeferredCount()));
+
+                // average wait time per send class since the last update
+                EBusSendService sendService = bridge.getSendService();
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_INTERACTIVE),
+                        new DecimalType(sendService.pollAverageWaitTime(SendClass.INTERACTIVE)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_RULE_ACTION),
+                        new DecimalType(sendService.pollAverageWaitTime(SendClass.RULE_ACTION)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_POLL),
+                        new DecimalType(sendService.pollAverageWaitTime(SendClass.POLL)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_DISCOVERY),
+                        new DecimalType(sendService.pollAverageWaitTime(SendClass.DISCOVERY)));
+
+                QueueStatistics queueStatistics = sendService.pollQueueStatistics();
+                bridge.updateState(new ChannelUID(thingUID, METRICS, SEND_QUEUE_DEPTH),
+                        new DecimalType(sendService.getSize()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_AVERAGE),
+                        new DecimalType(queueStatistics.getAverageWait()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, QUEUE_WAIT_P95),
+                        new DecimalType(queueStatistics.getP95Wait()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, SENDS_PER_MINUTE),
+                        new DecimalType(queueStatistics.getSendsPerMinute()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, OWN_BUS_SHARE),
+                        new DecimalType(queueStatistics.getOwnBusShare()));
+
+                bridge.updateState(new ChannelUID(thingUID, METRICS, COALESCED_WRITES),
+                        new DecimalType(bridge.getWriteCoalescer().getCoalescedCount()));
+
+                EBusLatencyHistogram latency = bridge.getLatencyService().getTotal();
+                bridge.updateState(new ChannelUID(thingUID, METRICS, LATENCY_P50),
+                        new DecimalType(latency.getPercentile(50)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, LATENCY_P95),
+                        new DecimalType(latency.getPercentile(95)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, LATENCY_P99),
+                        new DecimalType(latency.getPercentile(99)));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, LATENCY_MAX), new DecimalType(latency.getMax()));
+
+                // bus utilization since the last update
+                EBusBusStatistics busStatistics = bridge.getBusStatistics();
+                Snapshot snapshot = busStatistics.poll();
+                bridge.updateState(new ChannelUID(thingUID, METRICS, BUS_BYTES_PER_SECOND),
+                        new DecimalType(snapshot.getBytesPerSecond()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, BUS_UTILIZATION),
+                        new DecimalType(snapshot.getUtilization()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, BROADCASTS_PER_MINUTE),
+                        new DecimalType(snapshot.getBroadcastsPerMinute()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, MASTER_MASTER_PER_MINUTE),
+                        new DecimalType(snapshot.getMasterMasterPerMinute()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, MASTER_SLAVE_PER_MINUTE),
+                        new DecimalType(snapshot.getMasterSlavePerMinute()));
+                bridge.updateState(new ChannelUID(thingUID, METRICS, OWN_SEND_ERRORS),
+                        new DecimalType(busStatistics.getOwnSendErrors()));
+
+                // traffic counters of all devices
+                for (Thing thing : bridge.getThing().getThings()) {
+                    if (thing.getHandler() instanceof EBusHandler) {
+                        ((EBusHandler) thing.getHandler()).publishDeviceMetrics();
+                    }
+                }
+
                 if (controller != null) {
                     bridge.updateState(new ChannelUID(thingUID, METRICS, SEND_RECEIVE_ROUNDTRIP_TIME),
                             new DecimalType((int) controller.getLastSendReceiveRoundtripTime() / 1000));
@@ -0,0 +1,721 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.EBusDeviceCounters;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.jfr.EBusFlightRecorder;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.core.IEBusController;
+import de.csdev.ebus.core.IEBusController.ConnectionStatus;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusPollingScheduler} owns all polling jobs of a bridge. A single tick sends all due polling telegrams
+ * as long as the polling share of the bus budget allows it, all other due polls are deferred to the next tick.
+ *
+ * Identical telegrams of all Things share one job, the channels are reference counted as owners. The job polls with
+ * the shortest interval of its owners, the response is routed to all accepting Things by the bridge.
+ *
+ * If all owners allow a longer maximum interval, the job adapts its interval to the observed responses. An unchanged
+ * response doubles the interval up to the maximum, a changed response halves it down to the minimum.
+ *
+ * Responses to the same request from other masters are seen passively on the bus. A due poll is skipped if such
+ * a response is fresher than the configured share of the polling interval.
+ *
+ * All jobs are paused while the controller is not connected. After a reconnect the jobs are spread over a ramp-up
+ * window, so the polls missed in the meantime don't hit the bus at once.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusPollingScheduler {
+
+    /** 2400 baud, 10 bits per byte */
+    public static final int BUS_BYTES_PER_SECOND = 240;
+
+    public static final int DEFAULT_MAX_UTILIZATION = 30;
+
+    public static final int DEFAULT_FRESHNESS = 50;
+
+    /** ACK, slave response with NN and CRC, ACK and SYN of a master-slave telegram */
+    private static final int ESTIMATED_RESPONSE_BYTES = 8;
+
+    /** a bucket must hold at least the largest polling telegram */
+    private static final int MIN_BUCKET_BYTES = 64;
+
+    private static final long TICK_MILLIS = 250;
+
+    /** golden ratio conjugate, used to spread the start of the jobs evenly */
+    private static final double PHASE_STEP = 0.6180339887498949;
+
+    /** window to spread all jobs after a reconnect */
+    private static final long RAMP_UP_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * Requested interval of an owner
+     */
+    private static final class Interval {
+
+        private final long minNanos;
+        private final long maxNanos;
+
+        private Interval(long minNanos, long maxNanos) {
+            this.minNanos = minNanos;
+            this.maxNanos = Math.max(minNanos, maxNanos);
+        }
+    }
+
+    /**
+     * A polling job for a unique telegram
+     */
+    public static final class PollJob {
+
+        private final byte[] telegram;
+
+        /** request without source address, equal for all masters */
+        private final ByteBuffer requestKey;
+
+        private final int cost;
+
+        /** owner channel -> requested interval */
+        private final Map<ChannelUID, Interval> owners = new HashMap<>();
+
+        /** effective period */
+        private long periodNanos;
+
+        private long minNanos;
+
+        private long maxNanos;
+
+        private long nextDue;
+
+        private long lastSent;
+
+        /** last response seen on the bus, from any master */
+        private long lastSeen;
+
+        private byte @Nullable [] lastResponse;
+
+        private PollJob(byte[] telegram) {
+            this.telegram = telegram;
+            this.requestKey = toRequestKey(telegram);
+            this.cost = telegram.length + ESTIMATED_RESPONSE_BYTES;
+        }
+
+        /**
+         * Applies the strictest interval of all owners
+         */
+        private void updatePeriod() {
+            long min = Long.MAX_VALUE;
+            long max = Long.MAX_VALUE;
+            for (Interval interval : owners.values()) {
+                min = Math.min(min, interval.minNanos);
+                max = Math.min(max, interval.maxNanos);
+            }
+
+            minNanos = min;
+            maxNanos = Math.max(min, max);
+            periodNanos = periodNanos == 0 ? minNanos : Math.max(minNanos, Math.min(maxNanos, periodNanos));
+        }
+
+        /**
+         * Adapts the period to a response
+         *
+         * @return <code>true</code> if the period has changed
+         */
+        private boolean adapt(byte[] response) {
+            byte[] lastResponse = this.lastResponse;
+            this.lastResponse = response;
+
+            if (lastResponse == null || minNanos == maxNanos) {
+                return false;
+            }
+
+            long period = Arrays.equals(lastResponse, response) ? Math.min(maxNanos, periodNanos * 2)
+                    : Math.max(minNanos, periodNanos / 2);
+
+            if (period == periodNanos) {
+                return false;
+            }
+
+            periodNanos = period;
+            return true;
+        }
+
+        public byte[] getTelegram() {
+            return telegram;
+        }
+
+        public long getPeriod(TimeUnit unit) {
+            return unit.convert(periodNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getMinPeriod(TimeUnit unit) {
+            return unit.convert(minNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getMaxPeriod(TimeUnit unit) {
+            return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public Collection<ChannelUID> getOwners() {
+            return Collections.unmodifiableSet(owners.keySet());
+        }
+
+        private Set<ThingUID> getOwnerThings() {
+            Set<ThingUID> thingUIDs = new HashSet<>();
+            for (ChannelUID owner : owners.keySet()) {
+                thingUIDs.add(owner.getThingUID());
+            }
+            return thingUIDs;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusPollingScheduler.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    private final Map<ByteBuffer, PollJob> jobs = new LinkedHashMap<>();
+
+    /** owner channel -> telegram */
+    private final Map<ChannelUID, ByteBuffer> ownerTelegrams = new HashMap<>();
+
+    /** request without source address -> job */
+    private final Map<ByteBuffer, PollJob> requestJobs = new HashMap<>();
+
+    /** send queue id -> job, waiting for a response */
+    private final Map<Integer, PollJob> pendingResponses = new HashMap<>();
+
+    private volatile @Nullable ScheduledFuture<?> tickSchedule;
+
+    private volatile boolean active = false;
+
+    /** bytes per second available for polling */
+    private double budget = BUS_BYTES_PER_SECOND * DEFAULT_MAX_UTILIZATION / 100d;
+
+    /** available bytes, refilled by the budget on each tick */
+    private double tokens = 0;
+
+    private long lastTick = 0;
+
+    private long phaseSequence = 0;
+
+    private volatile int dueCount = 0;
+
+    private volatile int deferredCount = 0;
+
+    /** share of the period a passively seen response is fresh enough to skip a poll */
+    private double freshness = DEFAULT_FRESHNESS / 100d;
+
+    private final AtomicLong skipped = new AtomicLong();
+
+    public EBusPollingScheduler(IEBusBridgeHandler bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * @param maxUtilization maximum bus utilization in percent for polling
+     * @param freshness share of the polling interval in percent a seen response skips a poll, 0 to disable
+     */
+    public void configure(int maxUtilization, int freshness) {
+        int utilization = maxUtilization > 0 && maxUtilization <= 100 ? maxUtilization : DEFAULT_MAX_UTILIZATION;
+        synchronized (jobs) {
+            budget = BUS_BYTES_PER_SECOND * utilization / 100d;
+            this.freshness = Math.max(0, Math.min(100, freshness)) / 100d;
+        }
+        logger.debug("eBUS polling budget is {} bytes/s ({}% of the bus)", budget, utilization);
+    }
+
+    public void activate() {
+
+        deactivate();
+
+        active = true;
+
+        // start paused until the controller is connected
+        IEBusController controller = bridge.getLibClient().getController();
+        if (controller != null && controller.getConnectionStatus() == ConnectionStatus.CONNECTED) {
+            resume();
+        }
+    }
+
+    public void deactivate() {
+        active = false;
+        pause();
+    }
+
+    /**
+     * Pauses or resumes all polling jobs on a changed connection status of the controller
+     *
+     * @param status
+     */
+    public void onConnectionStatusChanged(@Nullable ConnectionStatus status) {
+        if (!active) {
+            return;
+        }
+
+        if (status == ConnectionStatus.CONNECTED) {
+            resume();
+        } else {
+            pause();
+        }
+    }
+
+    /**
+     * Returns true if the polling is paused, e.g. by a disconnected controller
+     *
+     * @return
+     */
+    public boolean isPaused() {
+        return tickSchedule == null;
+    }
+
+    /**
+     * Stops the tick, all jobs keep their registration
+     */
+    private void pause() {
+        synchronized (jobs) {
+            ScheduledFuture<?> tickSchedule = this.tickSchedule;
+            if (tickSchedule != null) {
+                tickSchedule.cancel(false);
+                this.tickSchedule = null;
+                logger.debug("eBUS polling paused");
+            }
+        }
+        clearPendingResponses();
+    }
+
+    /**
+     * Starts the tick, all jobs are spread over a ramp-up window so that polls missed while paused don't hit the bus
+     * at once
+     */
+    private void resume() {
+        synchronized (jobs) {
+            if (this.tickSchedule != null) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            tokens = 0;
+            lastTick = now;
+
+            long sequence = 0;
+            for (PollJob job : jobs.values()) {
+                double phase = (sequence++ * PHASE_STEP) % 1d;
+                job.nextDue = now + (long) (phase * Math.min(job.periodNanos, RAMP_UP_NANOS));
+                job.lastSeen = 0;
+            }
+
+            tickSchedule = bridge.getBindingScheduler().scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS,
+                    TimeUnit.MILLISECONDS);
+
+            logger.debug("eBUS polling resumed, ramp-up of {} jobs", jobs.size());
+        }
+    }
+
+    /**
+     * Registers a channel as owner of a polling telegram, the first poll of a new telegram is spread over the period
+     *
+     * @param owner
+     * @param telegram
+     * @param period
+     * @param unit
+     */
+    public void register(ChannelUID owner, byte[] telegram, long period, TimeUnit unit) {
+        register(owner, telegram, period, period, unit);
+    }
+
+    /**
+     * Registers a channel as owner of a polling telegram with an adaptive interval
+     *
+     * @param owner
+     * @param telegram
+     * @param period minimum period
+     * @param maxPeriod maximum period, equal to the period for a fixed interval
+     * @param unit
+     */
+    public void register(ChannelUID owner, byte[] telegram, long period, long maxPeriod, TimeUnit unit) {
+
+        Interval interval = new Interval(unit.toNanos(period), unit.toNanos(maxPeriod));
+
+        ByteBuffer key = ByteBuffer.wrap(telegram.clone());
+
+        synchronized (jobs) {
+
+            // a channel owns one telegram only
+            unregisterOwner(owner);
+
+            PollJob job = jobs.get(key);
+            if (job == null) {
+                job = new PollJob(telegram.clone());
+                job.owners.put(owner, interval);
+                job.updatePeriod();
+
+                double phase = (phaseSequence++ * PHASE_STEP) % 1d;
+                job.nextDue = System.nanoTime() + (long) (phase * job.periodNanos);
+                jobs.put(key, job);
+                requestJobs.put(job.requestKey, job);
+                EBusFlightRecorder.pollScheduled(job.telegram, job.getPeriod(TimeUnit.SECONDS));
+
+                logger.debug("Register polling for {} every {} sec. (initial delay {} sec.)",
+                        EBusUtils.toHexDumpString(telegram), unit.toSeconds(period),
+                        TimeUnit.NANOSECONDS.toSeconds((long) (phase * job.periodNanos)));
+
+            } else {
+                long previousPeriod = job.periodNanos;
+                job.owners.put(owner, interval);
+                job.updatePeriod();
+
+                // a shorter period applies from now on
+                if (job.periodNanos < previousPeriod) {
+                    job.nextDue = Math.min(job.nextDue, System.nanoTime() + job.periodNanos);
+                }
+                if (job.periodNanos != previousPeriod) {
+                    EBusFlightRecorder.pollScheduled(job.telegram, job.getPeriod(TimeUnit.SECONDS));
+                }
+
+                logger.debug("Polling for {} already registered, add owner {} ({} owners)",
+                        EBusUtils.toHexDumpString(telegram), owner, job.owners.size());
+            }
+
+            ownerTelegrams.put(owner, key);
+        }
+    }
+
+    /**
+     * Removes a channel as owner, the job is removed with its last owner
+     *
+     * @param owner
+     */
+    public void unregister(ChannelUID owner) {
+        synchronized (jobs) {
+            unregisterOwner(owner);
+        }
+    }
+
+    /**
+     * Removes all channels of a Thing as owners
+     *
+     * @param thingUID
+     */
+    public void unregisterAll(ThingUID thingUID) {
+        synchronized (jobs) {
+            for (ChannelUID owner : new ArrayList<>(ownerTelegrams.keySet())) {
+                if (owner.getThingUID().equals(thingUID)) {
+                    unregisterOwner(owner);
+                }
+            }
+        }
+    }
+
+    private void unregisterOwner(ChannelUID owner) {
+        ByteBuffer key = ownerTelegrams.remove(owner);
+        if (key == null) {
+            return;
+        }
+
+        PollJob job = jobs.get(key);
+        if (job != null) {
+            job.owners.remove(owner);
+            if (job.owners.isEmpty()) {
+                jobs.remove(key);
+                requestJobs.remove(job.requestKey, job);
+                pendingResponses.values().remove(job);
+                logger.debug("Cancel polling job for {} ...", EBusUtils.toHexDumpString(job.telegram));
+            } else {
+                long previousPeriod = job.periodNanos;
+                job.updatePeriod();
+                if (job.periodNanos != previousPeriod) {
+                    EBusFlightRecorder.pollScheduled(job.telegram, job.getPeriod(TimeUnit.SECONDS));
+                }
+                logger.debug("Polling job for {} still in use by {} owners ...",
+                        EBusUtils.toHexDumpString(job.telegram), job.owners.size());
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of all polling jobs
+     *
+     * @return
+     */
+    public List<PollJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    /**
+     * Adapts the interval of a polling job to its response, called for all received telegrams
+     *
+     * @param receivedData
+     * @param sendQueueId
+     */
+    public void onTelegramReceived(byte[] receivedData, @Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return;
+        }
+
+        Set<ThingUID> owners;
+        synchronized (jobs) {
+            PollJob job = pendingResponses.remove(sendQueueId);
+            if (job == null) {
+                return;
+            }
+
+            EBusFlightRecorder.pollAnswered(job.telegram, sendQueueId, job.lastSent);
+
+            if (job.adapt(receivedData)) {
+                job.nextDue = job.lastSent + job.periodNanos;
+                EBusFlightRecorder.pollScheduled(job.telegram, job.getPeriod(TimeUnit.SECONDS));
+
+                if (logger.isTraceEnabled()) {
+                    logger.trace("Adapt polling interval for {} to {} sec.", EBusUtils.toHexDumpString(job.telegram),
+                            job.getPeriod(TimeUnit.SECONDS));
+                }
+            }
+
+            owners = job.getOwnerThings();
+        }
+
+        count(owners, EBusDeviceCounters::onPollAnswered);
+    }
+
+    /**
+     * Marks the response of a master-slave exchange as seen, called for all resolved telegrams
+     *
+     * @param receivedData
+     */
+    public void onExchangeSeen(byte[] receivedData) {
+        if (receivedData.length < 5) {
+            return;
+        }
+
+        synchronized (jobs) {
+            if (requestJobs.isEmpty()) {
+                return;
+            }
+
+            PollJob job = requestJobs.get(toRequestKey(receivedData));
+            if (job != null) {
+                job.lastSeen = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of polls skipped due to a response from another master
+     *
+     * @return
+     */
+    public long getSkippedCount() {
+        return skipped.get();
+    }
+
+    /**
+     * Returns the request part of a telegram without the source address
+     */
+    static ByteBuffer toRequestKey(byte[] telegram) {
+        int end = telegram.length >= 5 ? Math.min(telegram.length, 5 + (telegram[4] & 0xFF)) : telegram.length;
+        return ByteBuffer.wrap(Arrays.copyOfRange(telegram, Math.min(1, end), end));
+    }
+
+    /**
+     * Drops the pending response of a failed poll
+     *
+     * @param sendQueueId
+     */
+    public void onTelegramFailed(@Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return;
+        }
+
+        Set<ThingUID> owners;
+        synchronized (jobs) {
+            PollJob job = pendingResponses.remove(sendQueueId);
+            if (job == null) {
+                return;
+            }
+            owners = job.getOwnerThings();
+        }
+
+        count(owners, EBusDeviceCounters::onTimeout);
+    }
+
+    /**
+     * Counts a poll for all Things that own its job
+     *
+     * @param thingUIDs
+     * @param counter
+     */
+    private void count(Set<ThingUID> thingUIDs, Consumer<EBusDeviceCounters> counter) {
+        for (ThingUID thingUID : thingUIDs) {
+            EBusDeviceCounters counters = bridge.getDeviceCounters(thingUID);
+            if (counters != null) {
+                counter.accept(counters);
+            }
+        }
+    }
+
+    /**
+     * Drops all responses that are not received yet, e.g. after a connection loss
+     */
+    private void clearPendingResponses() {
+        synchronized (jobs) {
+            pendingResponses.clear();
+        }
+    }
+
+    /**
+     * Returns the number of polls that were due on the last tick
+     *
+     * @return
+     */
+    public int getDueCount() {
+        return dueCount;
+    }
+
+    /**
+     * Returns the number of polls that were deferred on the last tick due to the bus budget
+     *
+     * @return
+     */
+    public int getDeferredCount() {
+        return deferredCount;
+    }
+
+    /**
+     * Returns the number of registered polling jobs
+     *
+     * @return
+     */
+    public int getJobCount() {
+        synchronized (jobs) {
+            return jobs.size();
+        }
+    }
+
+    private void tick() {
+        try {
+            List<PollJob> send = new ArrayList<>();
+
+            synchronized (jobs) {
+                long now = System.nanoTime();
+
+                // refill the bucket, allow a burst of one second at most
+                tokens = Math.min(Math.max(budget, MIN_BUCKET_BYTES),
+                        tokens + budget * (now - lastTick) / TimeUnit.SECONDS.toNanos(1));
+                lastTick = now;
+
+                List<PollJob> due = new ArrayList<>();
+                for (PollJob job : jobs.values()) {
+                    if (job.nextDue <= now) {
+                        due.add(job);
+                    }
+                }
+
+                // oldest due first, so deferred polls are not starved
+                due.sort(Comparator.comparingLong(job -> job.nextDue));
+
+                int deferred = 0;
+                for (PollJob job : due) {
+                    if (job.lastSeen != 0 && now - job.lastSeen < job.periodNanos * freshness) {
+                        // another master has just polled the same data
+                        job.nextDue = job.lastSeen + job.periodNanos;
+                        skipped.incrementAndGet();
+
+                    } else if (tokens >= job.cost) {
+
+                        // the slave doesn't respond, wait for the next probe
+                        if (!bridge.getCircuitBreaker().allowPoll(job.telegram[1])) {
+                            job.nextDue = nextDue(job, now);
+                            continue;
+                        }
+
+                        tokens -= job.cost;
+                        job.lastSent = now;
+                        job.nextDue = nextDue(job, now);
+                        send.add(job);
+
+                    } else {
+                        deferred++;
+                    }
+                }
+
+                dueCount = due.size();
+                deferredCount = deferred;
+            }
+
+            for (PollJob job : send) {
+                if (logger.isTraceEnabled()) {
+                    logger.trace("Poll command with \"{}\" ...", EBusUtils.toHexDumpString(job.telegram));
+                }
+                bridge.getSendService().send(SendClass.POLL, job.telegram, 2, sendQueueId -> {
+                    Set<ThingUID> owners;
+                    boolean displaced;
+                    synchronized (jobs) {
+                        // only the latest poll of a job is of interest, an unanswered previous poll has timed out
+                        displaced = pendingResponses.values().remove(job);
+                        pendingResponses.put(sendQueueId, job);
+                        owners = job.getOwnerThings();
+                    }
+                    if (displaced) {
+                        count(owners, EBusDeviceCounters::onTimeout);
+                    }
+                    bridge.getCircuitBreaker().onPollSent(sendQueueId, job.telegram[1]);
+                    count(owners, EBusDeviceCounters::onPollSent);
+                    EBusFlightRecorder.pollSent(job.telegram, sendQueueId);
+                }, () -> {
+                    // the poll wasn't sent or its response can't be correlated
+                    Set<ThingUID> owners;
+                    synchronized (jobs) {
+                        owners = job.getOwnerThings();
+                    }
+                    count(owners, EBusDeviceCounters::onTimeout);
+                });
+            }
+
+        } catch (RuntimeException e) {
+            logger.error("error!", e);
+        }
+    }
+
+    /**
+     * Keeps the phase of a job, but never schedules into the past
+     */
+    private long nextDue(PollJob job, long now) {
+        long next = job.nextDue + job.periodNanos;
+        return next > now ? next : now + job.periodNanos;
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.command.IEBusCommandMethod;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusRefreshService} handles on-demand refreshes of channels. Refreshes of the same request are
+ * coalesced into one telegram, the response is routed to all accepting Things by the bridge. A response of any
+ * master is cached for a short time, a refresh within this time is served from the cache without any telegram.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusRefreshService {
+
+    public static final int DEFAULT_CACHE_TTL = 5;
+
+    /** number of cached responses */
+    private static final int MAX_CACHE_SIZE = 256;
+
+    /** a refresh without any response allows the next refresh after this time */
+    private static final long PENDING_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final class CacheEntry {
+
+        private final ResolvedTelegram telegram;
+        private final long received;
+
+        private CacheEntry(ResolvedTelegram telegram, long received) {
+            this.telegram = telegram;
+            this.received = received;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusRefreshService.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    /** request without source address -> last response, least recently used first */
+    private final Map<ByteBuffer, CacheEntry> cache = new LinkedHashMap<ByteBuffer, CacheEntry>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<ByteBuffer, CacheEntry> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /** request without source address -> timeout of the sent refresh */
+    private final Map<ByteBuffer, Long> pending = new HashMap<>();
+
+    private long ttlNanos = TimeUnit.SECONDS.toNanos(DEFAULT_CACHE_TTL);
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    public EBusRefreshService(IEBusBridgeHandler bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * @param ttl time in seconds a response is served from the cache, 0 to disable the cache
+     */
+    public void configure(int ttl) {
+        synchronized (cache) {
+            ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttl));
+        }
+    }
+
+    public void deactivate() {
+        synchronized (cache) {
+            cache.clear();
+            pending.clear();
+        }
+    }
+
+    /**
+     * Refreshes a request. Returns a cached response if it is fresh enough, otherwise the telegram is sent unless the
+     * same request is already on its way.
+     *
+     * @param telegram
+     * @return the cached response or <code>null</code> if the response is routed by the bridge later
+     */
+    public @Nullable ResolvedTelegram refresh(byte[] telegram) {
+
+        ByteBuffer key = EBusPollingScheduler.toRequestKey(telegram);
+        long now = System.nanoTime();
+
+        synchronized (cache) {
+            ResolvedTelegram cached = getCached(key, now);
+            if (cached != null) {
+                return cached;
+            }
+
+            // drop refreshes without any response
+            for (Iterator<Long> iterator = pending.values().iterator(); iterator.hasNext();) {
+                if (iterator.next() - now < 0) {
+                    iterator.remove();
+                }
+            }
+
+            if (pending.containsKey(key)) {
+                coalesced.incrementAndGet();
+                return null;
+            }
+
+            pending.put(key, now + PENDING_TIMEOUT_NANOS);
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Refresh command with \"{}\" ...", EBusUtils.toHexDumpString(telegram));
+        }
+
+        // a refresh is requested by the UI or a rule, so it overtakes all waiting polls, a failed one can be repeated
+        if (!bridge.getSendService().send(SendClass.INTERACTIVE, telegram, 0, null, () -> removePending(key))) {
+            removePending(key);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a cached response if it is fresh enough, never sends a telegram
+     *
+     * @param telegram
+     * @return the cached response or <code>null</code>
+     */
+    public @Nullable ResolvedTelegram getCached(byte[] telegram) {
+        synchronized (cache) {
+            return getCached(EBusPollingScheduler.toRequestKey(telegram), System.nanoTime());
+        }
+    }
+
+    private @Nullable ResolvedTelegram getCached(ByteBuffer key, long now) {
+        CacheEntry entry = cache.get(key);
+        if (entry != null && now - entry.received < ttlNanos) {
+            cacheHits.incrementAndGet();
+            return entry.telegram;
+        }
+        return null;
+    }
+
+    private void removePending(ByteBuffer key) {
+        synchronized (cache) {
+            pending.remove(key);
+        }
+    }
+
+    /**
+     * Caches the response of a master-slave exchange, called for all resolved telegrams
+     *
+     * @param telegram
+     */
+    public void onTelegramResolved(ResolvedTelegram telegram) {
+        if (telegram.getCommandMethod().getType() != IEBusCommandMethod.Type.MASTER_SLAVE
+                || telegram.getReceivedData().length < 5) {
+            return;
+        }
+
+        ByteBuffer key = EBusPollingScheduler.toRequestKey(telegram.getReceivedData());
+
+        synchronized (cache) {
+            pending.remove(key);
+            if (ttlNanos > 0) {
+                cache.put(key, new CacheEntry(telegram, System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of refreshes that joined an already sent refresh
+     *
+     * @return
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of refreshes served from the cache
+     *
+     * @return
+     */
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+}
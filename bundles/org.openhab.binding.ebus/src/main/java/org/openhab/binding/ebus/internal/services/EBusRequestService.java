@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.command.EBusCommandException;
+import de.csdev.ebus.core.EBusDataException;
+
+/**
+ * The {@link EBusRequestService} is the request/response API of a bridge. A request is sent through the prioritized
+ * send path and returns a future of the resolved response. The response is correlated by the send queue id of the
+ * eBUS core, a request without any result fails after a timeout. The futures are completed on the binding scheduler,
+ * so dependent stages never run on the eBUS receiver thread.
+ *
+ * All callers share the single registry of this service, so no caller has to attach its own listener to the eBUS
+ * client.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusRequestService {
+
+    public static final long DEFAULT_TIMEOUT = 10;
+
+    /** maximum number of pending requests */
+    private static final int MAX_PENDING = 256;
+
+    private static final class Request {
+
+        private final CompletableFuture<ResolvedTelegram> future = new CompletableFuture<>();
+        private final long deadline;
+        private @Nullable Integer sendQueueId;
+        private @Nullable Consumer<Integer> queuedCallback;
+
+        private Request(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusRequestService.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    /** all pending requests, oldest first */
+    private final Set<Request> requests = new LinkedHashSet<>();
+
+    /** send queue id -> request, handed to the eBUS core */
+    private final Map<Integer, Request> pending = new HashMap<>();
+
+    private @Nullable ScheduledFuture<?> timeoutSchedule;
+
+    public EBusRequestService(IEBusBridgeHandler bridge) {
+        this.bridge = bridge;
+    }
+
+    public void activate() {
+
+        deactivate();
+
+        timeoutSchedule = bridge.getBindingScheduler().scheduleWithFixedDelay(this::expire, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void deactivate() {
+        ScheduledFuture<?> timeoutSchedule = this.timeoutSchedule;
+        if (timeoutSchedule != null) {
+            timeoutSchedule.cancel(true);
+            this.timeoutSchedule = null;
+        }
+
+        List<Request> cancelled;
+        synchronized (requests) {
+            cancelled = new ArrayList<>(requests);
+            requests.clear();
+            pending.clear();
+        }
+
+        for (Request request : cancelled) {
+            request.future.cancel(false);
+        }
+    }
+
+    /**
+     * Sends a telegram with the default timeout
+     *
+     * @param sendClass
+     * @param telegram
+     * @return a future of the resolved response
+     */
+    public CompletableFuture<ResolvedTelegram> request(SendClass sendClass, byte[] telegram) {
+        return request(sendClass, telegram, DEFAULT_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sends a telegram and returns a future of the resolved response. The future fails with a
+     * {@link TimeoutException} if no result is received in time, with an {@link EBusDataException} on a telegram error
+     * or with an {@link EBusCommandException} if the response can't be resolved.
+     *
+     * @param sendClass
+     * @param telegram
+     * @param timeout includes the wait time in the send queue
+     * @param unit
+     * @return a future of the resolved response
+     */
+    public CompletableFuture<ResolvedTelegram> request(SendClass sendClass, byte[] telegram, long timeout,
+            TimeUnit unit) {
+
+        Request request = new Request(System.nanoTime() + unit.toNanos(timeout));
+        Request dropped = null;
+
+        synchronized (requests) {
+            if (requests.size() >= MAX_PENDING) {
+                Iterator<Request> iterator = requests.iterator();
+                dropped = iterator.next();
+                iterator.remove();
+                Integer sendQueueId = dropped.sendQueueId;
+                if (sendQueueId != null) {
+                    pending.remove(sendQueueId);
+                }
+            }
+            requests.add(request);
+        }
+
+        if (dropped != null) {
+            logger.debug("Too many pending eBUS requests, drop the oldest one");
+            cancel(dropped);
+            dropped.future.completeExceptionally(new IllegalStateException("Too many pending eBUS requests"));
+        }
+
+        Consumer<Integer> queuedCallback = sendQueueId -> {
+            synchronized (requests) {
+                if (requests.contains(request)) {
+                    request.sendQueueId = sendQueueId;
+                    pending.put(sendQueueId, request);
+                }
+            }
+        };
+        request.queuedCallback = queuedCallback;
+
+        boolean queued = bridge.getSendService().send(sendClass, telegram, 0, queuedCallback, () -> {
+            remove(request);
+            bridge.getBindingScheduler().execute(() -> request.future
+                    .completeExceptionally(new IllegalStateException("Unable to send the eBUS telegram")));
+        });
+
+        if (!queued) {
+            remove(request);
+            request.future.completeExceptionally(new IllegalStateException("eBUS send queue is full"));
+        }
+
+        return request.future;
+    }
+
+    /**
+     * Returns the number of pending requests
+     *
+     * @return
+     */
+    public int getPendingCount() {
+        synchronized (requests) {
+            return requests.size();
+        }
+    }
+
+    /**
+     * Completes a request with its resolved response
+     *
+     * @param telegram
+     */
+    public void onTelegramResolved(ResolvedTelegram telegram) {
+        Request request = remove(telegram.getSendQueueId());
+        if (request != null) {
+            request.future.completeAsync(() -> telegram, bridge.getBindingScheduler());
+        }
+    }
+
+    /**
+     * Fails a request with a response that can't be resolved
+     *
+     * @param sendQueueId
+     * @param exceptionMessage
+     */
+    public void onTelegramResolveFailed(@Nullable Integer sendQueueId, @Nullable String exceptionMessage) {
+        Request request = remove(sendQueueId);
+        if (request != null) {
+            EBusCommandException e = new EBusCommandException(
+                    exceptionMessage != null ? exceptionMessage : "Unable to resolve the response");
+            bridge.getBindingScheduler().execute(() -> request.future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Fails a request with a telegram error
+     *
+     * @param exception
+     * @param sendQueueId
+     */
+    public void onTelegramException(@Nullable EBusDataException exception, @Nullable Integer sendQueueId) {
+        Request request = remove(sendQueueId);
+        if (request != null) {
+            EBusDataException e = exception != null ? exception : new EBusDataException("Unable to send the telegram");
+            bridge.getBindingScheduler().execute(() -> request.future.completeExceptionally(e));
+        }
+    }
+
+    private @Nullable Request remove(@Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return null;
+        }
+
+        synchronized (requests) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+
+            Request request = pending.remove(sendQueueId);
+            if (request != null) {
+                requests.remove(request);
+            }
+            return request;
+        }
+    }
+
+    private void remove(Request request) {
+        synchronized (requests) {
+            requests.remove(request);
+            Integer sendQueueId = request.sendQueueId;
+            if (sendQueueId != null) {
+                pending.remove(sendQueueId);
+            }
+        }
+    }
+
+    /**
+     * Fails all requests without any result in time
+     */
+    private void expire() {
+        List<Request> expired = new ArrayList<>();
+        long now = System.nanoTime();
+
+        synchronized (requests) {
+            for (Iterator<Request> iterator = requests.iterator(); iterator.hasNext();) {
+                Request request = iterator.next();
+                if (request.deadline - now < 0) {
+                    iterator.remove();
+                    Integer sendQueueId = request.sendQueueId;
+                    if (sendQueueId != null) {
+                        pending.remove(sendQueueId);
+                    }
+                    expired.add(request);
+                }
+            }
+        }
+
+        for (Request request : expired) {
+            cancel(request);
+            request.future.completeExceptionally(new TimeoutException("No response from eBUS"));
+        }
+    }
+
+    /**
+     * Removes the telegram of a request from the send queue, if it still waits there
+     *
+     * @param request
+     */
+    private void cancel(Request request) {
+        Consumer<Integer> queuedCallback = request.queuedCallback;
+        if (queuedCallback != null) {
+            bridge.getSendService().cancel(queuedCallback);
+        }
+    }
+}
@@ -0,0 +1,675 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.jfr.EBusFlightRecorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.client.EBusClient;
+import de.csdev.ebus.core.EBusControllerException;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusSendService} is the send path of a bridge. Telegrams wait in a priority queue of the binding and
+ * only a few are handed to the FIFO send queue of the eBUS core at a time. So an interactive command overtakes all
+ * waiting polls.
+ *
+ * A handed telegram is completed by its response, a telegram exception or a timeout. The listeners of a handed telegram
+ * are called before its response is released, a rare response that overtakes the hand-off isn't correlated.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusSendService {
+
+    /**
+     * Priority classes of the send path
+     */
+    public enum SendClass {
+
+        /** commands from the UI or items */
+        INTERACTIVE(30),
+
+        /** commands from rule actions */
+        RULE_ACTION(20),
+
+        /** polling telegrams */
+        POLL(10),
+
+        /** device inquiries of the discovery */
+        DISCOVERY(0);
+
+        private final int defaultPriority;
+
+        private SendClass(int defaultPriority) {
+            this.defaultPriority = defaultPriority;
+        }
+
+        public int getDefaultPriority() {
+            return defaultPriority;
+        }
+    }
+
+    /** telegrams handed to the eBUS core at the same time */
+    private static final int MAX_IN_FLIGHT = 2;
+
+    /** a handed telegram without any response is completed after this time */
+    private static final long IN_FLIGHT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final int MAX_QUEUE_SIZE = 1000;
+
+    /** wait time samples for the percentile, the oldest are overwritten */
+    private static final int WAIT_SAMPLES = 512;
+
+    private static final class Entry {
+
+        private final SendClass sendClass;
+        private final int priority;
+        private final long sequence;
+        private final long enqueued;
+
+        private final byte @Nullable [] telegram;
+        private final int maxAttempts;
+        private final @Nullable Consumer<Integer> queuedCallback;
+        private final @Nullable Runnable failedCallback;
+        private final @Nullable Runnable task;
+        private final @Nullable String replaceKey;
+
+        private Entry(SendClass sendClass, int priority, long sequence, byte @Nullable [] telegram, int maxAttempts,
+                @Nullable Consumer<Integer> queuedCallback, @Nullable Runnable failedCallback, @Nullable Runnable task,
+                @Nullable String replaceKey) {
+            this(sendClass, priority, sequence, System.nanoTime(), telegram, maxAttempts, queuedCallback,
+                    failedCallback, task, replaceKey);
+        }
+
+        private Entry(SendClass sendClass, int priority, long sequence, long enqueued, byte @Nullable [] telegram,
+                int maxAttempts, @Nullable Consumer<Integer> queuedCallback, @Nullable Runnable failedCallback,
+                @Nullable Runnable task, @Nullable String replaceKey) {
+            this.sendClass = sendClass;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueued = enqueued;
+            this.telegram = telegram;
+            this.maxAttempts = maxAttempts;
+            this.queuedCallback = queuedCallback;
+            this.failedCallback = failedCallback;
+            this.task = task;
+            this.replaceKey = replaceKey;
+        }
+    }
+
+    /**
+     * Wait time statistic of a send class, reset on each read
+     */
+    private static final class WaitStatistic {
+
+        private long count;
+        private long totalNanos;
+    }
+
+    /**
+     * Statistics of the send path since the last read
+     */
+    public static final class QueueStatistics {
+
+        private final long averageWait;
+        private final long p95Wait;
+        private final double sendsPerMinute;
+        private final double ownBusShare;
+
+        private QueueStatistics(long averageWait, long p95Wait, double sendsPerMinute, double ownBusShare) {
+            this.averageWait = averageWait;
+            this.p95Wait = p95Wait;
+            this.sendsPerMinute = sendsPerMinute;
+            this.ownBusShare = ownBusShare;
+        }
+
+        /**
+         * @return average queue wait time of all classes in ms
+         */
+        public long getAverageWait() {
+            return averageWait;
+        }
+
+        /**
+         * @return 95th percentile of the queue wait time of all classes in ms
+         */
+        public long getP95Wait() {
+            return p95Wait;
+        }
+
+        /**
+         * @return telegrams handed to the eBUS core per minute
+         */
+        public double getSendsPerMinute() {
+            return sendsPerMinute;
+        }
+
+        /**
+         * @return share of the received bytes in percent that belong to our own telegrams
+         */
+        public double getOwnBusShare() {
+            return ownBusShare;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusSendService.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    /** highest priority first, FIFO within the same priority */
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> a.priority != b.priority
+            ? Integer.compare(b.priority, a.priority)
+            : Long.compare(a.sequence, b.sequence));
+
+    /** send queue id -> timeout */
+    private final Map<Integer, Long> inFlight = new HashMap<>();
+
+    /** unknown send queue ids completed during a hand-off, cleared as soon as no hand-off is in progress */
+    private final Set<Integer> completedEarly = new HashSet<>();
+
+    private final Map<SendClass, Integer> priorities = new EnumMap<>(SendClass.class);
+
+    private final Map<SendClass, WaitStatistic> waitStatistics = new EnumMap<>(SendClass.class);
+
+    private final WaitStatistic totalWait = new WaitStatistic();
+
+    private final long[] waitSamples = new long[WAIT_SAMPLES];
+
+    private int waitSampleIndex = 0;
+
+    private long sent = 0;
+
+    private long ownBytes = 0;
+
+    private long totalBytes = 0;
+
+    private long statisticsStart = System.nanoTime();
+
+    /** slots reserved for telegrams that are currently handed to the eBUS core */
+    private int handing = 0;
+
+    private long sequence = 0;
+
+    private @Nullable ScheduledFuture<?> timeoutSchedule;
+
+    private @Nullable BiConsumer<Integer, byte[]> sentListener;
+
+    public EBusSendService(IEBusBridgeHandler bridge) {
+        this.bridge = bridge;
+
+        for (SendClass sendClass : SendClass.values()) {
+            priorities.put(sendClass, sendClass.getDefaultPriority());
+            waitStatistics.put(sendClass, new WaitStatistic());
+        }
+    }
+
+    /**
+     * Sets the priority of a send class, a higher value is sent first
+     *
+     * @param sendClass
+     * @param priority
+     */
+    public void configure(SendClass sendClass, @Nullable Number priority) {
+        synchronized (queue) {
+            priorities.put(sendClass, priority != null ? priority.intValue() : sendClass.getDefaultPriority());
+        }
+    }
+
+    /**
+     * Sets a listener that is called with the send queue id of each telegram handed to the eBUS core, before its
+     * response is processed
+     *
+     * @param sentListener
+     */
+    public void setSentListener(@Nullable BiConsumer<Integer, byte[]> sentListener) {
+        this.sentListener = sentListener;
+    }
+
+    public void activate() {
+
+        deactivate();
+
+        timeoutSchedule = bridge.getBindingScheduler().scheduleWithFixedDelay(this::release, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void deactivate() {
+        ScheduledFuture<?> timeoutSchedule = this.timeoutSchedule;
+        if (timeoutSchedule != null) {
+            timeoutSchedule.cancel(true);
+            this.timeoutSchedule = null;
+        }
+
+        synchronized (queue) {
+            queue.clear();
+            inFlight.clear();
+            completedEarly.clear();
+        }
+    }
+
+    /**
+     * Adds a telegram to the send queue
+     *
+     * @param sendClass
+     * @param telegram
+     * @return <code>false</code> if the queue is full
+     */
+    public boolean send(SendClass sendClass, byte[] telegram) {
+        return send(sendClass, telegram, 0, null);
+    }
+
+    /**
+     * Adds a telegram to the send queue
+     *
+     * @param sendClass
+     * @param telegram
+     * @param maxAttempts send attempts of the eBUS core, 0 for its default
+     * @param queuedCallback called with the send queue id of the eBUS core, as soon as the telegram is handed over and
+     *            before its response is processed
+     * @return <code>false</code> if the queue is full
+     */
+    public boolean send(SendClass sendClass, byte[] telegram, int maxAttempts,
+            @Nullable Consumer<Integer> queuedCallback) {
+        return send(sendClass, telegram, maxAttempts, queuedCallback, null);
+    }
+
+    /**
+     * Adds a telegram to the send queue
+     *
+     * @param sendClass
+     * @param telegram
+     * @param maxAttempts send attempts of the eBUS core, 0 for its default
+     * @param queuedCallback called with the send queue id of the eBUS core, as soon as the telegram is handed over and
+     *            before its response is processed
+     * @param failedCallback called instead if the eBUS core doesn't accept the telegram or its response overtook the
+     *            hand-off, so nobody waits for a response that can't be correlated
+     * @return <code>false</code> if the queue is full
+     */
+    public boolean send(SendClass sendClass, byte[] telegram, int maxAttempts,
+            @Nullable Consumer<Integer> queuedCallback, @Nullable Runnable failedCallback) {
+        return enqueue(sendClass, telegram, maxAttempts, queuedCallback, failedCallback, null, null);
+    }
+
+    /**
+     * Adds telegrams to the send queue in one step, so they are sent back-to-back without other telegrams of the same
+     * priority in between. Either all or none of the telegrams are queued.
+     *
+     * @param sendClass
+     * @param telegrams
+     * @return per telegram <code>true</code> if it was queued, all <code>false</code> if the queue has not enough space
+     */
+    public List<Boolean> sendAll(SendClass sendClass, List<byte[]> telegrams) {
+
+        synchronized (queue) {
+            if (queue.size() + telegrams.size() > MAX_QUEUE_SIZE) {
+                logger.warn("eBUS send queue is full, drop a batch of {} {} telegrams", telegrams.size(), sendClass);
+                return new ArrayList<>(Collections.nCopies(telegrams.size(), Boolean.FALSE));
+            }
+
+            Integer priority = priorities.get(sendClass);
+            for (byte[] telegram : telegrams) {
+                Entry entry = new Entry(sendClass, priority != null ? priority : sendClass.getDefaultPriority(),
+                        sequence++, telegram, 0, null, null, null, null);
+                queue.add(entry);
+                EBusFlightRecorder.sendEnqueued(sendClass.name(), entry.priority, queue.size());
+            }
+        }
+
+        release();
+        return new ArrayList<>(Collections.nCopies(telegrams.size(), Boolean.TRUE));
+    }
+
+    /**
+     * Adds a telegram to the send queue, a waiting telegram with the same key is replaced and keeps its position
+     *
+     * @param sendClass
+     * @param telegram
+     * @param replaceKey e.g. the command of a setter telegram
+     * @return <code>true</code> if a waiting telegram was replaced
+     */
+    public boolean sendLatest(SendClass sendClass, byte[] telegram, String replaceKey) {
+
+        synchronized (queue) {
+            for (Iterator<Entry> iterator = queue.iterator(); iterator.hasNext();) {
+                Entry entry = iterator.next();
+                if (replaceKey.equals(entry.replaceKey)) {
+                    // the newer telegram inherits the wait time of the replaced one
+                    iterator.remove();
+                    queue.add(new Entry(sendClass, entry.priority, entry.sequence, entry.enqueued, telegram, 0, null,
+                            null, null, replaceKey));
+                    EBusFlightRecorder.sendEnqueued(sendClass.name(), entry.priority, queue.size());
+                    return true;
+                }
+            }
+        }
+
+        enqueue(sendClass, telegram, 0, null, null, null, replaceKey);
+        return false;
+    }
+
+    /**
+     * Adds a task to the send queue, e.g. a device inquiry that sends its own telegrams
+     *
+     * @param sendClass
+     * @param task
+     * @return <code>false</code> if the queue is full
+     */
+    public boolean run(SendClass sendClass, Runnable task) {
+        return enqueue(sendClass, null, 0, null, null, task, null);
+    }
+
+    /**
+     * Returns the average queue wait time in ms of a send class since the last call
+     *
+     * @param sendClass
+     * @return
+     */
+    public long pollAverageWaitTime(SendClass sendClass) {
+        synchronized (queue) {
+            WaitStatistic statistic = waitStatistics.get(sendClass);
+            if (statistic == null || statistic.count == 0) {
+                return 0;
+            }
+
+            long average = TimeUnit.NANOSECONDS.toMillis(statistic.totalNanos / statistic.count);
+            statistic.count = 0;
+            statistic.totalNanos = 0;
+            return average;
+        }
+    }
+
+    /**
+     * Returns the statistics of all classes since the last call and resets them
+     *
+     * @return
+     */
+    public QueueStatistics pollQueueStatistics() {
+        synchronized (queue) {
+            long now = System.nanoTime();
+
+            long average = totalWait.count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWait.totalNanos / totalWait.count)
+                    : 0;
+
+            long p95 = 0;
+            int samples = Math.min(waitSampleIndex, WAIT_SAMPLES);
+            if (samples > 0) {
+                long[] sorted = Arrays.copyOf(waitSamples, samples);
+                Arrays.sort(sorted);
+                p95 = TimeUnit.NANOSECONDS.toMillis(sorted[(int) Math.ceil(samples * 0.95) - 1]);
+            }
+
+            double minutes = (now - statisticsStart) / (double) TimeUnit.MINUTES.toNanos(1);
+            double sendsPerMinute = minutes > 0 ? sent / minutes : 0;
+            double ownBusShare = totalBytes > 0 ? ownBytes * 100d / totalBytes : 0;
+
+            totalWait.count = 0;
+            totalWait.totalNanos = 0;
+            waitSampleIndex = 0;
+            sent = 0;
+            ownBytes = 0;
+            totalBytes = 0;
+            statisticsStart = now;
+
+            return new QueueStatistics(average, p95, sendsPerMinute, ownBusShare);
+        }
+    }
+
+    /**
+     * Counts the bytes of a received telegram for the bus share, called for all received telegrams
+     *
+     * @param receivedData
+     * @param sendQueueId only set for our own telegrams
+     */
+    public void onTelegramReceived(byte[] receivedData, @Nullable Integer sendQueueId) {
+        synchronized (queue) {
+            totalBytes += receivedData.length;
+            if (sendQueueId != null) {
+                ownBytes += receivedData.length;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of waiting telegrams
+     *
+     * @return
+     */
+    public int getSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Completes a handed telegram, called for all received telegrams and telegram exceptions. The next telegrams are
+     * handed over on the binding scheduler.
+     *
+     * @param sendQueueId
+     */
+    public void complete(@Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return;
+        }
+
+        synchronized (queue) {
+            if (inFlight.remove(sendQueueId) == null) {
+                // the response may overtake a hand-off that is still in progress
+                if (handing > 0) {
+                    completedEarly.add(sendQueueId);
+                }
+                // otherwise not our telegram or already timed out
+                return;
+            }
+        }
+
+        // don't block the receiver thread with the next hand-off
+        bridge.getBindingScheduler().execute(this::release);
+    }
+
+    /**
+     * Removes a waiting telegram that was added with this queued callback, a telegram that is already handed to the
+     * eBUS core is still sent
+     *
+     * @param queuedCallback
+     * @return <code>true</code> if a waiting telegram was removed
+     */
+    public boolean cancel(Consumer<Integer> queuedCallback) {
+        synchronized (queue) {
+            for (Iterator<Entry> iterator = queue.iterator(); iterator.hasNext();) {
+                if (iterator.next().queuedCallback == queuedCallback) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private boolean enqueue(SendClass sendClass, byte @Nullable [] telegram, int maxAttempts,
+            @Nullable Consumer<Integer> queuedCallback, @Nullable Runnable failedCallback, @Nullable Runnable task,
+            @Nullable String replaceKey) {
+
+        synchronized (queue) {
+            if (queue.size() >= MAX_QUEUE_SIZE) {
+                logger.warn("eBUS send queue is full, drop {} telegram {}", sendClass,
+                        telegram != null ? EBusUtils.toHexDumpString(telegram) : "task");
+                return false;
+            }
+
+            Integer priority = priorities.get(sendClass);
+            Entry entry = new Entry(sendClass, priority != null ? priority : sendClass.getDefaultPriority(),
+                    sequence++, telegram, maxAttempts, queuedCallback, failedCallback, task, replaceKey);
+            queue.add(entry);
+            EBusFlightRecorder.sendEnqueued(sendClass.name(), entry.priority, queue.size());
+        }
+
+        release();
+        return true;
+    }
+
+    /**
+     * Hands the next telegrams to the eBUS core, as long as in-flight slots are free
+     */
+    private void release() {
+
+        boolean slotFreed = true;
+
+        while (slotFreed) {
+            List<Entry> next = new ArrayList<>();
+
+            synchronized (queue) {
+                long now = System.nanoTime();
+
+                // free slots of telegrams without any response
+                for (Iterator<Long> iterator = inFlight.values().iterator(); iterator.hasNext();) {
+                    if (iterator.next() - now < 0) {
+                        iterator.remove();
+                    }
+                }
+
+                while (inFlight.size() + handing < MAX_IN_FLIGHT && !queue.isEmpty()) {
+                    Entry entry = queue.poll();
+
+                    long wait = now - entry.enqueued;
+                    WaitStatistic statistic = waitStatistics.get(entry.sendClass);
+                    if (statistic != null) {
+                        statistic.count++;
+                        statistic.totalNanos += wait;
+                    }
+
+                    totalWait.count++;
+                    totalWait.totalNanos += wait;
+                    waitSamples[waitSampleIndex++ % WAIT_SAMPLES] = wait;
+
+                    // a task doesn't occupy a slot
+                    if (entry.task == null) {
+                        handing++;
+                    }
+                    next.add(entry);
+                }
+            }
+
+            slotFreed = false;
+
+            for (Entry entry : next) {
+                Runnable task = entry.task;
+                if (task != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        logger.error("error!", e);
+                    }
+                } else if (!hand(entry)) {
+                    // a failed or already completed telegram frees its slot at once
+                    slotFreed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands a telegram to the eBUS core
+     *
+     * @param entry
+     * @return <code>true</code> if the telegram is in-flight
+     */
+    private boolean hand(Entry entry) {
+
+        Integer sendQueueId = null;
+        boolean occupied = false;
+
+        try {
+            byte[] telegram = entry.telegram;
+            if (telegram != null) {
+                EBusClient client = bridge.getLibClient().getClient();
+                sendQueueId = entry.maxAttempts > 0 ? client.addToSendQueue(telegram, entry.maxAttempts)
+                        : client.addToSendQueue(telegram);
+            }
+        } catch (EBusControllerException | RuntimeException e) {
+            logger.warn("Unable to send {} telegram: {}", entry.sendClass, e.getMessage());
+        } finally {
+            synchronized (queue) {
+                handing--;
+                if (sendQueueId != null) {
+                    sent++;
+                    if (completedEarly.remove(sendQueueId)) {
+                        logger.debug("Response of {} telegram {} overtook its hand-off", entry.sendClass,
+                                sendQueueId);
+                    } else {
+                        inFlight.put(sendQueueId, System.nanoTime() + IN_FLIGHT_TIMEOUT_NANOS);
+                        occupied = true;
+
+                        // register the correlations before the response is completed
+                        notifyHanded(entry, sendQueueId);
+                    }
+                }
+                if (handing == 0) {
+                    completedEarly.clear();
+                }
+            }
+        }
+
+        EBusFlightRecorder.sendDequeued(entry.sendClass.name(), sendQueueId, entry.enqueued);
+
+        // fail a waiting request at once instead of after its timeout
+        Runnable failedCallback = entry.failedCallback;
+        if (!occupied && failedCallback != null) {
+            try {
+                failedCallback.run();
+            } catch (RuntimeException e) {
+                logger.error("error!", e);
+            }
+        }
+
+        return occupied;
+    }
+
+    /**
+     * Calls the listeners of a handed telegram
+     *
+     * @param entry
+     * @param sendQueueId
+     */
+    private void notifyHanded(Entry entry, Integer sendQueueId) {
+        try {
+            BiConsumer<Integer, byte[]> sentListener = this.sentListener;
+            byte[] telegram = entry.telegram;
+            if (sentListener != null && telegram != null) {
+                sentListener.accept(sendQueueId, telegram);
+            }
+
+            Consumer<Integer> queuedCallback = entry.queuedCallback;
+            if (queuedCallback != null) {
+                queuedCallback.accept(sendQueueId);
+            }
+        } catch (RuntimeException e) {
+            logger.error("error!", e);
+        }
+    }
+}
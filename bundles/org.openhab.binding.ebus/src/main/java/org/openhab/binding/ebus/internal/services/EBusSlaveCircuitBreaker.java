@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.csdev.ebus.core.EBusConsts;
+import de.csdev.ebus.utils.EBusUtils;
+
+/**
+ * The {@link EBusSlaveCircuitBreaker} tracks the health of all slave addresses of a bridge. Sent telegrams are
+ * matched by their send queue id. After a number of failures in a row the circuit of a slave opens and all polls to
+ * this address are suppressed. After a backoff a single poll probes the slave, the backoff doubles on each failed
+ * probe. Failures of other telegrams to an open circuit, e.g. interactive commands, don't extend the backoff.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusSlaveCircuitBreaker {
+
+    public static final int DEFAULT_THRESHOLD = 5;
+
+    public static final int DEFAULT_BACKOFF = 60;
+
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    /** a probe without any result allows the next probe after this time */
+    private static final long PROBE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    /** number of send queue ids waiting for a result */
+    private static final int MAX_PENDING = 256;
+
+    /**
+     * Listener for state changes of a circuit
+     */
+    @FunctionalInterface
+    public interface CircuitListener {
+
+        /**
+         * @param slaveAddress
+         * @param open
+         * @param retrySeconds seconds until the next probe if open
+         */
+        void onCircuitChanged(byte slaveAddress, boolean open, long retrySeconds);
+    }
+
+    private static final class SlaveState {
+
+        private int failures;
+        private boolean open;
+        private long backoffNanos;
+        private long openUntil;
+        private long probeSent;
+        private @Nullable Integer probeId;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusSlaveCircuitBreaker.class);
+
+    private final @Nullable SlaveState[] states = new SlaveState[256];
+
+    /** send queue id -> slave address */
+    private final Map<Integer, Byte> pending = new LinkedHashMap<Integer, Byte>() {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<Integer, Byte> eldest) {
+            return size() > MAX_PENDING;
+        }
+    };
+
+    private final CircuitListener listener;
+
+    private int threshold = DEFAULT_THRESHOLD;
+
+    private long initialBackoffNanos = TimeUnit.SECONDS.toNanos(DEFAULT_BACKOFF);
+
+    public EBusSlaveCircuitBreaker(CircuitListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @param threshold failures in a row to open a circuit, 0 to disable
+     * @param backoff first backoff in seconds
+     */
+    public synchronized void configure(int threshold, int backoff) {
+        this.threshold = Math.max(0, threshold);
+        this.initialBackoffNanos = TimeUnit.SECONDS.toNanos(backoff > 0 ? backoff : DEFAULT_BACKOFF);
+    }
+
+    /**
+     * Closes all circuits
+     */
+    public void reset() {
+        List<Byte> closed = new ArrayList<>();
+
+        synchronized (this) {
+            for (int i = 0; i < states.length; i++) {
+                SlaveState state = states[i];
+                if (state != null && state.open) {
+                    closed.add((byte) i);
+                }
+                states[i] = null;
+            }
+            pending.clear();
+        }
+
+        for (Byte address : closed) {
+            listener.onCircuitChanged(address, false, 0);
+        }
+    }
+
+    /**
+     * Registers a sent telegram, only telegrams to slaves are tracked
+     *
+     * @param sendQueueId
+     * @param telegram
+     */
+    public void onSent(Integer sendQueueId, byte[] telegram) {
+        if (telegram.length < 2) {
+            return;
+        }
+
+        byte destination = telegram[1];
+        if (destination == EBusConsts.BROADCAST_ADDRESS || EBusUtils.isMasterAddress(destination)) {
+            return;
+        }
+
+        synchronized (this) {
+            if (threshold > 0) {
+                pending.put(sendQueueId, destination);
+            }
+        }
+    }
+
+    /**
+     * Registers the send queue id of a poll, the first poll to an open circuit after {@link #allowPoll(byte)} is the
+     * probe
+     *
+     * @param sendQueueId
+     * @param destination
+     */
+    public synchronized void onPollSent(Integer sendQueueId, byte destination) {
+        SlaveState state = states[destination & 0xFF];
+        if (state != null && state.open && state.probeSent != 0 && state.probeId == null) {
+            state.probeId = sendQueueId;
+        }
+    }
+
+    /**
+     * Marks a telegram as successful, the slave has sent a valid response
+     *
+     * @param sendQueueId
+     */
+    public void onSuccess(@Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return;
+        }
+
+        byte destination;
+        synchronized (this) {
+            Byte address = pending.remove(sendQueueId);
+            if (address == null) {
+                return;
+            }
+
+            destination = address;
+            SlaveState state = states[destination & 0xFF];
+            if (state == null) {
+                return;
+            }
+
+            states[destination & 0xFF] = null;
+            if (!state.open) {
+                return;
+            }
+        }
+
+        logger.info("eBUS slave {} is responding again, close circuit", EBusUtils.toHexDumpString(destination));
+        listener.onCircuitChanged(destination, false, 0);
+    }
+
+    /**
+     * Marks a telegram as failed, no or an invalid response
+     *
+     * @param sendQueueId
+     */
+    public void onFailure(@Nullable Integer sendQueueId) {
+        if (sendQueueId == null) {
+            return;
+        }
+
+        byte destination;
+        long retrySeconds;
+
+        synchronized (this) {
+            Byte address = pending.remove(sendQueueId);
+            if (address == null || threshold == 0) {
+                return;
+            }
+
+            destination = address;
+            SlaveState state = states[destination & 0xFF];
+            if (state == null) {
+                state = new SlaveState();
+                states[destination & 0xFF] = state;
+            }
+
+            state.failures++;
+
+            if (state.open) {
+                if (!sendQueueId.equals(state.probeId)) {
+                    // not the probe, the backoff is unchanged
+                    return;
+                }
+
+                // failed probe
+                state.backoffNanos = Math.min(MAX_BACKOFF_NANOS, state.backoffNanos * 2);
+
+            } else if (state.failures >= threshold) {
+                state.open = true;
+                state.backoffNanos = initialBackoffNanos;
+
+            } else {
+                return;
+            }
+
+            state.openUntil = System.nanoTime() + state.backoffNanos;
+            state.probeSent = 0;
+            state.probeId = null;
+            retrySeconds = TimeUnit.NANOSECONDS.toSeconds(state.backoffNanos);
+        }
+
+        logger.info("eBUS slave {} is not responding, suppress polls for {} sec.",
+                EBusUtils.toHexDumpString(destination), retrySeconds);
+        listener.onCircuitChanged(destination, true, retrySeconds);
+    }
+
+    /**
+     * Returns true if a poll to this address can be sent. An open circuit allows a single probe after its backoff.
+     *
+     * @param destination
+     * @return
+     */
+    public synchronized boolean allowPoll(byte destination) {
+        SlaveState state = states[destination & 0xFF];
+
+        if (state == null || !state.open) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (now - state.openUntil < 0) {
+            return false;
+        }
+
+        // only one probe at a time
+        if (state.probeSent != 0 && now - state.probeSent < PROBE_TIMEOUT_NANOS) {
+            return false;
+        }
+
+        state.probeSent = now;
+        state.probeId = null;
+        logger.debug("Probe eBUS slave {} ...", EBusUtils.toHexDumpString(destination));
+        return true;
+    }
+
+    /**
+     * Returns true if the circuit of this address is open
+     *
+     * @param destination
+     * @return
+     */
+    public synchronized boolean isOpen(byte destination) {
+        SlaveState state = states[destination & 0xFF];
+        return state != null && state.open;
+    }
+}
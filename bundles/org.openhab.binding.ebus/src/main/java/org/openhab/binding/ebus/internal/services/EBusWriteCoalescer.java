@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ebus.internal.handler.IEBusBridgeHandler;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
+import org.openhab.core.thing.ChannelUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EBusWriteCoalescer} holds the writes of a channel for a short window and sends only the newest one,
+ * e.g. while a slider is dragged. A setter telegram still waiting in the send queue is replaced by a newer telegram
+ * of the same command. The window delays each command, so it's disabled by default.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusWriteCoalescer {
+
+    public static final int DEFAULT_WINDOW = 0;
+
+    private static final class PendingWrite {
+
+        private final String commandKey;
+        private Supplier<byte @Nullable []> telegram;
+        private @Nullable ScheduledFuture<?> future;
+
+        private PendingWrite(String commandKey, Supplier<byte @Nullable []> telegram) {
+            this.commandKey = commandKey;
+            this.telegram = telegram;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EBusWriteCoalescer.class);
+
+    private final IEBusBridgeHandler bridge;
+
+    private final Map<ChannelUID, PendingWrite> pending = new HashMap<>();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public EBusWriteCoalescer(IEBusBridgeHandler bridge) {
+        this.bridge = bridge;
+    }
+
+    public void deactivate() {
+        synchronized (pending) {
+            for (PendingWrite write : pending.values()) {
+                ScheduledFuture<?> future = write.future;
+                if (future != null) {
+                    future.cancel(false);
+                }
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Submits a write of a channel. The telegram is generated at the end of the window, so only the newest write
+     * is composed and sent.
+     *
+     * @param channelUID
+     * @param commandKey identifies the command of the setter telegram
+     * @param window hold time in ms, 0 to send at once
+     * @param telegram generates the setter telegram, returns <code>null</code> on errors
+     */
+    public void submit(ChannelUID channelUID, String commandKey, long window, Supplier<byte @Nullable []> telegram) {
+
+        if (window <= 0) {
+            send(commandKey, telegram);
+            return;
+        }
+
+        synchronized (pending) {
+            PendingWrite write = pending.get(channelUID);
+            if (write != null) {
+                // latest wins
+                write.telegram = telegram;
+                coalesced.incrementAndGet();
+                return;
+            }
+
+            write = new PendingWrite(commandKey, telegram);
+            pending.put(channelUID, write);
+            write.future = bridge.getBindingScheduler().schedule(() -> flush(channelUID), window,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the number of writes replaced by a newer write
+     *
+     * @return
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    private void flush(ChannelUID channelUID) {
+        PendingWrite write;
+        synchronized (pending) {
+            write = pending.remove(channelUID);
+        }
+
+        if (write != null) {
+            send(write.commandKey, write.telegram);
+        }
+    }
+
+    private void send(String commandKey, Supplier<byte @Nullable []> telegram) {
+        try {
+            byte[] data = telegram.get();
+            if (data != null && bridge.getSendService().sendLatest(SendClass.INTERACTIVE, data, commandKey)) {
+                logger.debug("Replaced a waiting setter telegram of {}", commandKey);
+                coalesced.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            logger.error("error!", e);
+        }
+    }
+}
@@ -8,11 +8,13 @@
  */
 package org.openhab.binding.ebus.internal.things;
 
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.BINDING_ID;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.BINDING_PID;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.COMMAND;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.CONFIG_DESCRIPTION_URI_NODE;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.CONFIG_DESCRIPTION_URI_NULL_CHANNEL;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.CONFIG_DESCRIPTION_URI_POLLING_CHANNEL;
+import static org.openhab.binding.ebus.internal.EBusBindingConstants.DEVICE_METRICS;
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.VALUE_NAME;
 
 import java.io.IOException;
@@ -533,6 +535,10 @@ public class EBusTypeProviderImpl extends EBusTypeProviderBase {
 
         }
 
+        // the traffic counters of each device, defined in the bridge descriptions
+        channelGroupDefinitions.add(new ChannelGroupDefinition(DEVICE_METRICS,
+                new ChannelGroupTypeUID(BINDING_ID, DEVICE_METRICS)));
+
         // *****************************************
         // generate a thing for this collection
         // *****************************************
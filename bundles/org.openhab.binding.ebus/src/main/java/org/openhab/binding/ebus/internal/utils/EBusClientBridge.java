@@ -13,30 +13,27 @@ import static org.openhab.binding.ebus.internal.EBusBindingConstants.DRIVER_JSER
 import static org.openhab.binding.ebus.internal.EBusBindingConstants.VALUE_NAME;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ebus.internal.EBusBindingConstants;
-import org.openhab.core.library.types.DecimalType;
-import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.types.Command;
-import org.openhab.core.types.State;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.csdev.ebus.client.EBusClient;
 import de.csdev.ebus.command.EBusCommandException;
 import de.csdev.ebus.command.EBusCommandRegistry;
+import de.csdev.ebus.command.IEBusCommandCollection;
 import de.csdev.ebus.command.IEBusCommandMethod;
 import de.csdev.ebus.command.IEBusCommandMethod.Method;
 import de.csdev.ebus.command.IEBusCommandMethod.Type;
 import de.csdev.ebus.command.datatypes.EBusTypeException;
-import de.csdev.ebus.core.EBusControllerException;
 import de.csdev.ebus.core.EBusEbusdController;
 import de.csdev.ebus.core.EBusLowLevelController;
 import de.csdev.ebus.core.IEBusController;
@@ -152,35 +149,57 @@ public class EBusClientBridge {
     }
 
     /**
-     * @param telegram
+     * @param thing
+     * @param channel
+     * @param command
      * @return
-     * @throws EBusControllerException
+     * @throws EBusTypeException
+     * @throws EBusCommandException
      */
-    public Integer sendTelegram(ByteBuffer telegram) throws EBusControllerException {
-        byte[] byteArray = EBusUtils.toByteArray(telegram);
-        return client.addToSendQueue(byteArray);
+    public ByteBuffer generateSetterTelegram(Thing thing, Channel channel, Command command)
+            throws EBusTypeException, EBusCommandException {
+        return generateSetterTelegram(createSetterPlan(thing, channel), command);
     }
 
     /**
-     * @param telegram
+     * Builds the setter telegram of a prepared channel, only the value is encoded
+     *
+     * @param plan
+     * @param command
      * @return
-     * @throws EBusControllerException
+     * @throws EBusTypeException
+     * @throws EBusCommandException
      */
-    public Integer sendTelegram(byte[] telegram) throws EBusControllerException {
-        return client.addToSendQueue(telegram);
+    public ByteBuffer generateSetterTelegram(EBusSetterPlan plan, Command command)
+            throws EBusTypeException, EBusCommandException {
+        Object value = plan.toValue(command);
+
+        Map<@Nullable String, @Nullable Object> values = value != null ? Collections.singletonMap(plan.getValueName(), value)
+                : Collections.emptyMap();
+
+        return client.buildTelegram(plan.getCommandMethod(), plan.getTarget(), values);
     }
 
     /**
+     * Returns false if the eBUS configuration of a setter plan was reloaded in the meantime
+     *
+     * @param plan
+     * @return
+     */
+    public boolean isCurrent(EBusSetterPlan plan) {
+        IEBusCommandCollection collection = plan.getCommandMethod().getParent().getParentCollection();
+        return client.getCommandCollection(collection.getId()) == collection;
+    }
+
+    /**
+     * Resolves everything of a channel's setter telegram that doesn't depend on the command
+     *
      * @param thing
      * @param channel
-     * @param command
      * @return
-     * @throws EBusTypeException
      * @throws EBusCommandException
      */
-    @SuppressWarnings({"java:S3776"})
-    public ByteBuffer generateSetterTelegram(Thing thing, Channel channel, Command command)
-            throws EBusTypeException, EBusCommandException {
+    public EBusSetterPlan createSetterPlan(Thing thing, Channel channel) throws EBusCommandException {
         String slaveAddress = (String) thing.getConfiguration().get(EBusBindingConstants.SLAVE_ADDRESS);
         String collectionId = thing.getThingTypeUID().getId();
 
@@ -191,7 +210,7 @@ public class EBusClientBridge {
         @SuppressWarnings("null")
         String valueName = properties.get(VALUE_NAME);
 
-        if (StringUtils.isEmpty(commandId) || StringUtils.isEmpty(valueName)) {
+        if (StringUtils.isEmpty(commandId) || valueName == null || StringUtils.isEmpty(valueName)) {
             throw new EBusCommandException("Channel has no additional eBUS information!");
         }
 
@@ -216,30 +235,7 @@ public class EBusClientBridge {
             }
         }
 
-        HashMap<@Nullable String, @Nullable Object> values = new HashMap<>();
-
-        if (command instanceof State) {
-            State state = (State) command;
-
-            if (state instanceof OnOffType) {
-                OnOffType onOff = state.as(OnOffType.class);
-                values.put(valueName, onOff == OnOffType.ON);
-
-            } else if (state instanceof DecimalType) {
-                DecimalType decimalValue = state.as(DecimalType.class);
-                if (decimalValue != null) {
-                    values.put(valueName, decimalValue.toBigDecimal());
-                }
-            } else {
-                String stateValue = state.toString();
-                if (stateValue != null) {
-                    DecimalType decimalValue = new DecimalType(stateValue);
-                    values.put(valueName, decimalValue.toBigDecimal());
-                }
-            }
-        }
-
-        return client.buildTelegram(commandMethod, target, values);
+        return new EBusSetterPlan(commandMethod, target, valueName);
     }
 
     /**
@@ -10,18 +10,33 @@ package org.openhab.binding.ebus.internal.utils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.ebus.internal.handler.EBusBridgeHandler;
 import org.openhab.binding.ebus.internal.handler.EBusHandler;
+import org.openhab.binding.ebus.internal.services.EBusDispatchService.ResolvedTelegram;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming;
+import org.openhab.binding.ebus.internal.services.EBusDispatchTiming.Stage;
+import org.openhab.binding.ebus.internal.services.EBusLatencyHistogram;
+import org.openhab.binding.ebus.internal.services.EBusLatencyService;
+import org.openhab.binding.ebus.internal.services.EBusPollingScheduler;
+import org.openhab.binding.ebus.internal.services.EBusPollingScheduler.PollJob;
+import org.openhab.binding.ebus.internal.services.EBusSendService.SendClass;
 import org.openhab.binding.ebus.internal.things.EBusTypeProviderException;
 import org.openhab.binding.ebus.internal.things.IEBusTypeProvider;
 import org.openhab.core.io.console.Console;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
 import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
 import org.openhab.core.thing.ThingUID;
@@ -36,6 +51,7 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 
 import de.csdev.ebus.client.EBusClient;
 import de.csdev.ebus.command.EBusCommandRegistry;
+import de.csdev.ebus.command.EBusCommandUtils;
 import de.csdev.ebus.command.IEBusCommandCollection;
 import de.csdev.ebus.core.EBusControllerException;
 import de.csdev.ebus.core.EBusDataException;
@@ -72,6 +88,18 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
 
     private static final String SUBCMD_CHANNELS = "channels";
 
+    private static final String SUBCMD_POLLING = "polling";
+
+    private static final String SUBCMD_LATENCY = "latency";
+
+    private static final String SUBCMD_TIMING = "timing";
+
+    private static final String TIMING_ON = "on";
+
+    private static final String TIMING_OFF = "off";
+
+    private static final String TIMING_RESET = "reset";
+
     @NonNullByDefault({})
     @Reference(policy = ReferencePolicy.STATIC, cardinality = ReferenceCardinality.MANDATORY)
     private ThingRegistry thingRegistry;
@@ -226,6 +254,148 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
         }
     }
 
+    /**
+     * Lists all polling jobs with their effective interval
+     *
+     * @param args
+     * @param console
+     * @param bridge
+     */
+    private void polling(String[] args, Console console, @Nullable EBusBridgeHandler bridge) {
+        Collection<EBusBridgeHandler> bridgeHandlers = bridge != null ? Collections.singletonList(bridge)
+                : getAllEBusBridgeHandlers();
+
+        for (EBusBridgeHandler handler : bridgeHandlers) {
+            EBusPollingScheduler pollingScheduler = handler.getPollingScheduler();
+
+            console.println(String.format("Polling jobs of bridge %s (due %d, deferred %d on last tick, skipped %d)%s",
+                    handler.getThing().getUID(), pollingScheduler.getDueCount(), pollingScheduler.getDeferredCount(),
+                    pollingScheduler.getSkippedCount(), pollingScheduler.isPaused() ? " - paused" : ""));
+            console.println(String.format("%-50s | %-8s | %-8s | %-8s | %-40s", "Telegram", "Interval", "Min",
+                    "Max", "Channels"));
+            console.println(String.format("%-50s-+-%-8s-+-%-8s-+-%-8s-+-%-40s", StringUtils.repeat("-", 50),
+                    StringUtils.repeat("-", 8), StringUtils.repeat("-", 8), StringUtils.repeat("-", 8),
+                    StringUtils.repeat("-", 40)));
+
+            for (PollJob job : pollingScheduler.getJobs()) {
+                boolean first = true;
+                for (ChannelUID owner : job.getOwners()) {
+                    if (first) {
+                        console.println(String.format("%-50s | %-8s | %-8s | %-8s | %-40s",
+                                EBusUtils.toHexDumpString(job.getTelegram()), job.getPeriod(TimeUnit.SECONDS),
+                                job.getMinPeriod(TimeUnit.SECONDS), job.getMaxPeriod(TimeUnit.SECONDS), owner));
+                        first = false;
+                    } else {
+                        console.println(String.format("%-50s | %-8s | %-8s | %-8s | %-40s", "", "", "", "", owner));
+                    }
+                }
+            }
+            console.println("");
+        }
+    }
+
+    /**
+     * Lists the response latency percentiles per command and destination, slowest first
+     *
+     * @param args
+     * @param console
+     * @param bridge
+     */
+    private void latency(String[] args, Console console, @Nullable EBusBridgeHandler bridge) {
+        Collection<EBusBridgeHandler> bridgeHandlers = bridge != null ? Collections.singletonList(bridge)
+                : getAllEBusBridgeHandlers();
+
+        String format = "%-60s | %-8s | %-8s | %-8s | %-8s | %-8s";
+
+        for (EBusBridgeHandler handler : bridgeHandlers) {
+            EBusLatencyService latencyService = handler.getLatencyService();
+            EBusLatencyHistogram total = latencyService.getTotal();
+
+            console.println(String.format("Response latency in ms of bridge %s (last 5 minutes)",
+                    handler.getThing().getUID()));
+            console.println(String.format(format, "Command @ Destination", "Count", "p50", "p95", "p99", "Max"));
+            console.println(String.format("%-60s-+-%-8s-+-%-8s-+-%-8s-+-%-8s-+-%-8s", StringUtils.repeat("-", 60),
+                    StringUtils.repeat("-", 8), StringUtils.repeat("-", 8), StringUtils.repeat("-", 8),
+                    StringUtils.repeat("-", 8), StringUtils.repeat("-", 8)));
+
+            List<Entry<String, EBusLatencyHistogram>> entries = new ArrayList<>(
+                    latencyService.getHistograms().entrySet());
+            entries.removeIf(entry -> entry.getValue().getCount() == 0);
+            entries.sort(Comparator.comparingLong(
+                    (Entry<String, EBusLatencyHistogram> entry) -> entry.getValue().getPercentile(95)).reversed());
+
+            for (Entry<String, EBusLatencyHistogram> entry : entries) {
+                EBusLatencyHistogram histogram = entry.getValue();
+                console.println(String.format(format, entry.getKey(), histogram.getCount(),
+                        histogram.getPercentile(50), histogram.getPercentile(95), histogram.getPercentile(99),
+                        histogram.getMax()));
+            }
+
+            console.println(String.format(format, "Total", total.getCount(), total.getPercentile(50),
+                    total.getPercentile(95), total.getPercentile(99), total.getMax()));
+            console.println("");
+        }
+    }
+
+    /**
+     * Switches the dispatch path timing on or off, resets it or lists the percentiles per stage
+     *
+     * @param args
+     * @param console
+     */
+    private void timing(String[] args, Console console) {
+        String action = args.length > 1 && (TIMING_ON.equals(args[1]) || TIMING_OFF.equals(args[1])
+                || TIMING_RESET.equals(args[1])) ? args[1] : null;
+        int bridgeIndex = action != null ? 2 : 1;
+
+        Collection<EBusBridgeHandler> bridgeHandlers;
+        if (args.length > bridgeIndex) {
+            EBusBridgeHandler bridge = getBridge(args[bridgeIndex], console);
+            if (bridge == null) {
+                return;
+            }
+            bridgeHandlers = Collections.singletonList(bridge);
+        } else {
+            bridgeHandlers = getAllEBusBridgeHandlers();
+        }
+
+        String format = "%-10s | %-8s | %-8s | %-8s | %-8s | %-8s";
+
+        for (EBusBridgeHandler handler : bridgeHandlers) {
+            EBusDispatchTiming timing = handler.getDispatchTiming();
+            ThingUID bridgeUID = handler.getThing().getUID();
+
+            if (TIMING_ON.equals(action)) {
+                timing.setEnabled(true);
+                console.println(String.format("Dispatch timing of bridge %s is on", bridgeUID));
+
+            } else if (TIMING_OFF.equals(action)) {
+                timing.setEnabled(false);
+                console.println(String.format("Dispatch timing of bridge %s is off", bridgeUID));
+
+            } else if (TIMING_RESET.equals(action)) {
+                timing.reset();
+                console.println(String.format("Dispatch timing of bridge %s is reset", bridgeUID));
+
+            } else {
+                console.println(String.format("Dispatch timing in µs of bridge %s (last 5 minutes, %s)", bridgeUID,
+                        timing.isEnabled() ? "on" : "off"));
+                console.println(String.format(format, "Stage", "Count", "p50", "p95", "p99", "Max"));
+                console.println(String.format("%-10s-+-%-8s-+-%-8s-+-%-8s-+-%-8s-+-%-8s", StringUtils.repeat("-", 10),
+                        StringUtils.repeat("-", 8), StringUtils.repeat("-", 8), StringUtils.repeat("-", 8),
+                        StringUtils.repeat("-", 8), StringUtils.repeat("-", 8)));
+
+                for (Stage stage : Stage.values()) {
+                    EBusLatencyHistogram histogram = timing.getHistogram(stage);
+                    console.println(String.format(format, stage.name().toLowerCase(), histogram.getCount(),
+                            histogram.getPercentile(50), histogram.getPercentile(95), histogram.getPercentile(99),
+                            histogram.getMax()));
+                }
+                console.println("");
+            }
+        }
+    }
+
     /**
      * @param data
      * @param console
@@ -264,6 +434,31 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
                     devices(args, console, null);
                 }
 
+            } else if (SUBCMD_POLLING.equals(args[0])) {
+
+                if (args.length == 2) {
+                    EBusBridgeHandler bridge = getBridge(args[1], console);
+                    if (bridge != null) {
+                        polling(args, console, bridge);
+                    }
+                } else {
+                    polling(args, console, null);
+                }
+
+            } else if (SUBCMD_LATENCY.equals(args[0])) {
+
+                if (args.length == 2) {
+                    EBusBridgeHandler bridge = getBridge(args[1], console);
+                    if (bridge != null) {
+                        latency(args, console, bridge);
+                    }
+                } else {
+                    latency(args, console, null);
+                }
+
+            } else if (SUBCMD_TIMING.equals(args[0])) {
+                timing(args, console);
+
             } else if (SUBCMD_RESOLVE.equals(args[0])) {
                 resolve(EBusUtils.toByteArray(args[1]), console);
 
@@ -277,14 +472,8 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
                 }
 
                 if (bridge != null) {
-                    EBusClient client = bridge.getLibClient().getClient();
-                    byte[] data = EBusUtils.toByteArray(args[1]);
-
-                    EBusConsoleSendReceiver sendReceiver = new EBusConsoleSendReceiver(client, console);
-
-                    // send and wait for the result, self-removing from listener
                     try {
-                        sendReceiver.send(data);
+                        send(EBusUtils.toByteArray(args[1]), console, bridge);
                     } catch (EBusDataException e) {
                         console.println("The send telegram is invalid! " + e.getMessage());
                     }
@@ -327,6 +516,46 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
         }
     }
 
+    /**
+     * Sends a telegram and waits for its response
+     *
+     * @param data
+     * @param console
+     * @param bridge
+     * @throws EBusDataException
+     */
+    private void send(byte[] data, Console console, EBusBridgeHandler bridge) throws EBusDataException {
+
+        CompletableFuture<ResolvedTelegram> future = bridge.getRequestService().request(SendClass.INTERACTIVE,
+                EBusCommandUtils.prepareSendTelegram(data));
+        console.println("Send telegram, waiting for response ...");
+
+        try {
+            ResolvedTelegram telegram = future.get();
+
+            console.printf("Status    : Successful send %s\n", telegram.getSendQueueId());
+            console.printf("Command ID: %s\n", EBusCommandUtils.getFullId(telegram.getCommandMethod()));
+            console.printf("Telegram  : %s\n", EBusUtils.toHexDumpString(telegram.getReceivedData()).toString());
+
+            console.println("");
+            console.println("Received values:");
+            for (Entry<String, @Nullable Object> entry : telegram.getResult().entrySet()) {
+                Object value = entry.getValue();
+                if (value != null) {
+                    console.println(String.format(" %s: %s", entry.getKey(), value.toString()));
+                }
+            }
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            console.println("Status    : FAILED");
+            console.printf("Error     : %s\n", cause != null ? cause.getMessage() : e.getMessage());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * @param console
      * @return
@@ -385,6 +614,12 @@ public class EBusConsoleCommandExtension implements ConsoleCommandExtension {
                 "sends a raw hex telegram to an eBUS bridge or if not set to first bridge"));
         list.add(String.format(line2, CMD, SUBCMD_DEVICES, "[<bridgeUID>]",
                 "lists all devices connect to an eBUS bridge or list only a specific bridge"));
+        list.add(String.format(line2, CMD, SUBCMD_POLLING, "[<bridgeUID>]",
+                "lists all polling jobs with their effective interval in seconds"));
+        list.add(String.format(line2, CMD, SUBCMD_LATENCY, "[<bridgeUID>]",
+                "lists the response latency per command and destination, slowest first"));
+        list.add(String.format(line2, CMD, SUBCMD_TIMING, "[on|off|reset] [<bridgeUID>]",
+                "switches the dispatch path timing on or off, resets it or lists it per stage"));
         list.add(String.format(line2, CMD, SUBCMD_RESOLVE, "\"<ebus telegram>\"", "resolves and analyze a telegram"));
 
         list.add(String.format(line, CMD, SUBCMD_RELOAD, "reload all defined json configuration files"));
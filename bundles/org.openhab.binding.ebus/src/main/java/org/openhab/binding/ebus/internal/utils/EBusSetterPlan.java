@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2017-2025 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.ebus.internal.utils;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+
+import de.csdev.ebus.command.IEBusCommandMethod;
+
+/**
+ * The {@link EBusSetterPlan} holds everything to build the setter telegram of a channel that doesn't depend on the
+ * command, so only the value is encoded per command. A plan is valid as long as the Thing and the eBUS configuration
+ * are unchanged.
+ *
+ * @author Christian Sowada - Initial contribution
+ */
+@NonNullByDefault
+public class EBusSetterPlan {
+
+    private final IEBusCommandMethod commandMethod;
+
+    private final byte target;
+
+    private final String valueName;
+
+    public EBusSetterPlan(IEBusCommandMethod commandMethod, byte target, String valueName) {
+        this.commandMethod = commandMethod;
+        this.target = target;
+        this.valueName = valueName;
+    }
+
+    public IEBusCommandMethod getCommandMethod() {
+        return commandMethod;
+    }
+
+    /**
+     * Returns the target address, the master address for master-master commands
+     *
+     * @return
+     */
+    public byte getTarget() {
+        return target;
+    }
+
+    public String getValueName() {
+        return valueName;
+    }
+
+    /**
+     * Converts a command to the eBUS value of this channel
+     *
+     * @param command
+     * @return the value or <code>null</code> if the command has no value
+     */
+    public @Nullable Object toValue(Command command) {
+
+        if (command instanceof OnOffType) {
+            return command == OnOffType.ON;
+
+        } else if (command instanceof DecimalType) {
+            return ((DecimalType) command).toBigDecimal();
+
+        } else if (command instanceof State) {
+            return new DecimalType(command.toString()).toBigDecimal();
+        }
+
+        return null;
+    }
+}